@@ -0,0 +1,96 @@
+package com.discphy.ad.domain.ad;
+
+import com.discphy.ad.domain.ad.condition.CountOverJoinCondition;
+import com.discphy.ad.domain.ad.condition.FirstJoinCondition;
+import com.discphy.ad.domain.ad.condition.SpecificAdIdJoinCondition;
+import com.discphy.ad.domain.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AdJoinConditionBenchmark {
+
+    @Param({"500"})
+    private int adCount;
+
+    private List<Ad> ads;
+    private List<AdJoinedHistory> histories;
+    private UserJoinProfile profile;
+    private Map<AdJoinConditionType, AdJoinCondition> conditions;
+    private AdJoinConditionStrategy strategy;
+
+    @Setup
+    public void setUp() {
+        List<AdJoinCondition> joinConditions = List.of(
+            new FirstJoinCondition(),
+            new CountOverJoinCondition(),
+            new SpecificAdIdJoinCondition()
+        );
+        conditions = joinConditions.stream()
+            .collect(Collectors.toMap(AdJoinCondition::type, Function.identity()));
+        strategy = new AdJoinConditionStrategy(joinConditions);
+
+        LocalDateTime now = LocalDateTime.now();
+        ads = IntStream.range(0, adCount)
+            .mapToObj(i -> createAd((long) i + 1, now))
+            .toList();
+
+        User user = User.builder()
+            .id(1L)
+            .name("사용자명")
+            .build();
+        histories = ads.subList(0, 5).stream()
+            .map(ad -> AdJoinedHistory.create(ad, user, now))
+            .toList();
+
+        profile = UserJoinProfile.from(histories);
+
+        ads.forEach(ad -> strategy.isSatisfied(ad, profile)); // 컴파일 캐시 예열
+    }
+
+    @Benchmark
+    public void parseEveryCall(Blackhole blackhole) {
+        for (Ad ad : ads) {
+            blackhole.consume(conditions.get(ad.getType()).isSatisfied(histories, ad.getContext()));
+        }
+    }
+
+    @Benchmark
+    public void compiledCache(Blackhole blackhole) {
+        for (Ad ad : ads) {
+            blackhole.consume(strategy.isSatisfied(ad, profile));
+        }
+    }
+
+    private Ad createAd(Long id, LocalDateTime now) {
+        AdJoinConditionType type = AdJoinConditionType.values()[(int) (id % 3)];
+        String context = switch (type) {
+            case FIRST_JOIN -> null;
+            case COUNT_OVER -> "{\"joinCount\": 3}";
+            case SPECIFIC_AD_ID -> "{\"adId\": " + (id % 10 + 1) + "}";
+        };
+
+        return Ad.builder()
+            .id(id)
+            .name("광고" + id)
+            .rewardAmount(1_000L)
+            .joinCount(100)
+            .description("광고 설명")
+            .imageUrl("https://example.com/image.jpg")
+            .startedAt(now.minusDays(1))
+            .endedAt(now.plusDays(1))
+            .type(type)
+            .context(context)
+            .build();
+    }
+}
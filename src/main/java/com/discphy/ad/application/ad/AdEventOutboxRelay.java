@@ -0,0 +1,173 @@
+package com.discphy.ad.application.ad;
+
+import com.discphy.ad.application.point.PointEventListener;
+import com.discphy.ad.application.point.ResilientPointClient;
+import com.discphy.ad.domain.ad.AdEventOutbox;
+import com.discphy.ad.domain.ad.AdService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class AdEventOutboxRelay {
+
+    private static final int PURGE_CHUNK_SIZE = 1_000;
+
+    private final AdService adService;
+    private final PointEventListener pointEventListener;
+    private final ResilientPointClient resilientPointClient;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long pollInterval;
+    private final Duration lease;
+    private final Duration dispatchTimeout;
+    private final Duration retention;
+    private final ScheduledExecutorService poller;
+
+    public AdEventOutboxRelay(AdService adService,
+                              PointEventListener pointEventListener,
+                              ResilientPointClient resilientPointClient,
+                              @Value("${ad.outbox.relay.enabled:true}") boolean enabled,
+                              @Value("${ad.outbox.relay.batch-size:100}") int batchSize,
+                              @Value("${ad.outbox.relay.max-attempts:10}") int maxAttempts,
+                              @Value("${ad.outbox.relay.poll-interval:200}") long pollInterval,
+                              @Value("${ad.outbox.relay.lease:30s}") Duration lease,
+                              @Value("${ad.outbox.relay.dispatch-timeout:20s}") Duration dispatchTimeout,
+                              @Value("${ad.outbox.retention:7d}") Duration retention) {
+        this.adService = adService;
+        this.pointEventListener = pointEventListener;
+        this.resilientPointClient = resilientPointClient;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.pollInterval = pollInterval;
+        this.lease = lease;
+        this.dispatchTimeout = dispatchTimeout;
+        this.retention = retention;
+        // 응답을 기다리는 중에 점유 기한이 지나면 다른 노드가 같은 이벤트를 가져가므로 기한 안에 결과를 기록해야 함
+        if (dispatchTimeout.compareTo(lease) >= 0) {
+            throw new IllegalStateException("아웃박스 발송 대기 시간은 점유 기한보다 짧아야 합니다: dispatchTimeout=" + dispatchTimeout + " lease=" + lease);
+        }
+        // 발송이 느려도 공용 스케줄러 스레드를 점유하지 않도록 전용 스레드에서 가져옴
+        this.poller = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("ad-outbox-relay").factory());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        poller.scheduleWithFixedDelay(this::relay, pollInterval, pollInterval, TimeUnit.MILLISECONDS);
+    }
+
+    public void relay() {
+        try {
+            int claimed;
+            do {
+                claimed = relayBatch();
+            } while (claimed == batchSize); // 밀린 이벤트가 있으면 대기 없이 다음 배치를 가져옴
+        } catch (Exception e) {
+            log.error("[AdEventOutboxRelay.relay] 아웃박스 릴레이 실패", e);
+        }
+    }
+
+    public int relayBatch() {
+        if (!resilientPointClient.isAvailable()) {
+            return 0; // 서킷이 열린 동안은 가져가지 않아 장애 중에 재시도 횟수를 소진하지 않음
+        }
+
+        List<AdEventOutbox> outboxes = adService.claimOutboxes(LocalDateTime.now(), lease, batchSize);
+        if (outboxes.isEmpty()) {
+            return 0;
+        }
+
+        // 한 번에 넘겨 적립 요청이 일괄 호출로 묶이게 하고, 동시 호출 수는 PointRewardDispatcher 가 제한
+        // 대기 시간 안에 결과를 모르면 null 로 완료하여 점유 기한 안에 발송 결과를 기록
+        List<CompletableFuture<Boolean>> futures = outboxes.stream()
+            .map(outbox -> dispatch(outbox).completeOnTimeout(null, dispatchTimeout.toMillis(), TimeUnit.MILLISECONDS))
+            .toList();
+
+        // 실패했거나 결과를 모르는 이벤트는 발송 완료로 바꾸지 않고 점유 기한이 지나면 같은 멱등 키로 다시 발송, 재시도 한도를 넘기면 발송 포기로 남김
+        List<Long> sentIds = new ArrayList<>();
+        List<Long> deadIds = new ArrayList<>();
+        for (int i = 0; i < outboxes.size(); i++) {
+            AdEventOutbox outbox = outboxes.get(i);
+            Boolean sent = futures.get(i).join();
+            if (Boolean.TRUE.equals(sent)) {
+                sentIds.add(outbox.getId());
+                continue;
+            }
+
+            if (sent == null) {
+                log.warn("[AdEventOutboxRelay.relayBatch] 대기 시간 안에 적립 결과를 받지 못함: outboxId={} attempts={}", outbox.getId(), outbox.getAttempts());
+            }
+            if (outbox.isExhausted(maxAttempts)) { // 결과를 모르는 발송도 실패한 시도로 세어 응답하지 않는 이벤트가 계속 다시 발송되지 않게 함
+                log.error("[AdEventOutboxRelay.relayBatch] 재시도 한도 초과로 발송 포기: outboxId={} payload={}", outbox.getId(), outbox.getPayload());
+                deadIds.add(outbox.getId());
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            adService.markOutboxesSent(sentIds, LocalDateTime.now());
+        }
+        if (!deadIds.isEmpty()) {
+            adService.markOutboxesDead(deadIds);
+        }
+
+        return outboxes.size();
+    }
+
+    @Scheduled(cron = "${ad.outbox.purge-cron:0 30 3 * * *}")
+    public void purge() {
+        LocalDateTime sentBefore = LocalDateTime.now().minus(retention);
+
+        try {
+            int purged;
+            do {
+                purged = adService.purgeSentOutboxes(sentBefore, PURGE_CHUNK_SIZE);
+            } while (purged == PURGE_CHUNK_SIZE);
+        } catch (Exception e) {
+            log.error("[AdEventOutboxRelay.purge] 발송 완료 아웃박스 정리 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        poller.shutdown();
+        if (!poller.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("[AdEventOutboxRelay.close] 발송 중인 이벤트가 남아있습니다. 점유 기한 이후 다시 발송됩니다.");
+        }
+    }
+
+    private CompletableFuture<Boolean> dispatch(AdEventOutbox outbox) {
+        CompletableFuture<Void> future;
+        try {
+            future = pointEventListener.handle(outbox.idempotencyKey(), outbox.toJoined());
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future.handle((result, e) -> {
+            if (e != null) {
+                log.warn("[AdEventOutboxRelay.dispatch] 이벤트 발송 실패: outboxId={} attempts={}", outbox.getId(), outbox.getAttempts(), e);
+                return false;
+            }
+            return true;
+        });
+    }
+}
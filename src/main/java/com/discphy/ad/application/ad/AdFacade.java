@@ -3,23 +3,33 @@ package com.discphy.ad.application.ad;
 import com.discphy.ad.domain.ad.*;
 import com.discphy.ad.domain.user.User;
 import com.discphy.ad.domain.user.UserService;
+import com.discphy.ad.exception.CoreException;
+import com.discphy.ad.exception.ErrorType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Component
 @RequiredArgsConstructor
 public class AdFacade {
 
     public static final int GET_JOINABLE_MAX_SIZE = 10;
+    private static final int REPLAY_CHUNK_SIZE = 1_000;
 
     private final AdService adService;
     private final UserService userService;
     private final ApplicationEventPublisher eventPublisher;
+    private final AdJoinPipeline adJoinPipeline;
+    private final AdSoldOutRegistry adSoldOutRegistry;
+    private final AdJoinableCache adJoinableCache;
+    private final AdReadYourWrites adReadYourWrites;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public AdInfo.Create create(AdCommand.Create command) {
@@ -27,34 +37,87 @@ public class AdFacade {
         return AdInfo.Create.from(ad);
     }
 
-    @Transactional
     public AdInfo.Join join(AdCommand.Join command) {
+        if (adSoldOutRegistry.isClosed(command.adId(), LocalDateTime.now())) {
+            throw new CoreException(ErrorType.CONFLICT, "참여가 불가능합니다."); // 소진되거나 종료된 광고는 DB 접근 없이 실패
+        }
+
+        if (adJoinPipeline.isEnabled()) {
+            return joinThroughPipeline(command); // 파이프라인 응답을 기다리는 동안 커넥션을 점유하지 않도록 트랜잭션 밖에서 대기
+        }
+
+        try {
+            return transactionTemplate.execute(status -> {
+                User user = userService.get(command.userId());
+                AdJoinedHistory joinedUser = adService.join(command.adId(), user);
+
+                eventPublisher.publishEvent(AdEvent.Joined.of(joinedUser));
+                return AdInfo.Join.from(joinedUser);
+            });
+        } catch (CoreException e) {
+            if (adSoldOutRegistry.isSoldOut(command.adId())) {
+                adService.settleSoldOut(command.adId()); // 참여 트랜잭션의 커넥션을 반납한 뒤 소진 상태로 전이
+            }
+            throw e;
+        }
+    }
+
+    public AdInfo.GetJoinAble getJoinable(Long userId) {
+        return adJoinableCache.get(userId, () -> adReadYourWrites.read(userId, () -> loadJoinable(userId))); // 캐시 적중 시 트랜잭션 없이 반환
+    }
+
+    public AdInfo.GetJoinedHistories getJoinedHistories(AdCommand.JoinedHistoriesQuery command) {
+        List<AdInfo.JoinedHistory> histories = adReadYourWrites.read(command.userId(), () -> adService.getJoinedHistoryInfos(command));
+
+        String nextCursor = histories.size() < command.size()
+            ? null // 마지막 페이지
+            : AdJoinedHistoryCursor.after(histories.getLast()).encode();
+
+        return AdInfo.GetJoinedHistories.of(command.userId(), command.page(), command.size(), histories, nextCursor);
+    }
+
+    public void exportJoinedHistories(AdCommand.ExportJoinedHistories command, Consumer<AdInfo.JoinedHistory> consumer) {
+        adService.exportJoinedHistories(command, consumer);
+    }
+
+    // 발송 포기한 이벤트를 다시 발송 대기로 되돌려 릴레이가 처음부터 재시도하게 함
+    public int replayDeadOutboxes() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int replayed;
+        do {
+            replayed = adService.replayDeadOutboxes(now, REPLAY_CHUNK_SIZE);
+            total += replayed;
+        } while (replayed == REPLAY_CHUNK_SIZE);
+
+        return total;
+    }
+
+    private AdInfo.Join joinThroughPipeline(AdCommand.Join command) {
         User user = userService.get(command.userId());
-        AdJoinedHistory joinedUser = adService.join(command.adId(), user);
+        AdJoinedHistory joinedUser = adJoinPipeline.join(command.adId(), user);
 
         eventPublisher.publishEvent(AdEvent.Joined.of(joinedUser));
         return AdInfo.Join.from(joinedUser);
     }
 
-    @Transactional(readOnly = true)
-    public AdInfo.GetJoinAble getJoinable(Long userId) {
+    private AdInfo.GetJoinAble loadJoinable(Long userId) {
+        UserJoinProfile profile = adService.getJoinProfile(userId);
+
+        // 참여 조건 판단에 쓰이는 정보가 같은 사용자끼리는 같은 목록을 공유
+        return adService.findEligibilitySignature(profile)
+            .map(signature -> adJoinableCache.getShared(signature, () -> loadJoinable(profile)))
+            .orElseGet(() -> loadJoinable(profile));
+    }
+
+    private AdInfo.GetJoinAble loadJoinable(UserJoinProfile profile) {
         LocalDateTime now = LocalDateTime.now();
 
-        List<AdInfo.GetJoinAbleItem> items = adService.getJoinable(userId, now).stream()
+        List<AdInfo.GetJoinAbleItem> items = adService.getJoinable(profile, now, GET_JOINABLE_MAX_SIZE).stream()
             .limit(GET_JOINABLE_MAX_SIZE)
             .map(AdInfo.GetJoinAbleItem::from)
             .toList();
 
         return AdInfo.GetJoinAble.from(items);
     }
-
-    @Transactional(readOnly = true)
-    public AdInfo.GetJoinedHistories getJoinedHistories(AdCommand.JoinedHistoriesQuery command) {
-        List<AdInfo.JoinedHistory> histories = adService.getJoinedHistories(command)
-            .stream()
-            .map(AdInfo.JoinedHistory::from)
-            .toList();
-
-        return AdInfo.GetJoinedHistories.of(command.userId(), command.page(), command.size(), histories);
-    }
 }
@@ -0,0 +1,174 @@
+package com.discphy.ad.application.ad;
+
+import com.discphy.ad.domain.ad.AdJoinMode;
+import com.discphy.ad.domain.ad.AdJoinResult;
+import com.discphy.ad.domain.ad.AdJoinedHistory;
+import com.discphy.ad.domain.ad.AdService;
+import com.discphy.ad.domain.user.User;
+import com.discphy.ad.exception.CoreException;
+import com.discphy.ad.exception.ErrorType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class AdJoinPipeline {
+
+    private final AdService adService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration timeout;
+    private final ExecutorService workers;
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public AdJoinPipeline(AdService adService,
+                          @Value("${ad.join.pipeline.enabled:false}") boolean enabled,
+                          @Value("${ad.join.pipeline.worker-count:2}") int workerCount,
+                          @Value("${ad.join.pipeline.batch-size:50}") int batchSize,
+                          @Value("${ad.join.pipeline.timeout:5s}") Duration timeout,
+                          @Value("${ad.join.mode:PESSIMISTIC_LOCK}") AdJoinMode mode) {
+        // 배치 차감은 행 잠금 후 엔티티의 join_count 를 직접 줄이므로 다른 차감 방식의 재고(원장, 슬롯, 티켓)와 어긋남
+        if (enabled && mode != AdJoinMode.PESSIMISTIC_LOCK) {
+            throw new IllegalStateException("참여 파이프라인은 PESSIMISTIC_LOCK 방식에서만 사용할 수 있습니다: " + mode);
+        }
+
+        this.adService = adService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.timeout = timeout;
+        this.workers = Executors.newFixedThreadPool(workerCount, Thread.ofPlatform().name("ad-join-pipeline-", 0).factory());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public AdJoinedHistory join(Long adId, User user) {
+        try {
+            return submit(adId, user).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CoreException coreException) {
+                throw coreException;
+            }
+            throw new CoreException(ErrorType.INTERNAL_ERROR, e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            // 이미 배치에 들어간 요청은 응답과 무관하게 커밋될 수 있음
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "참여 요청 처리 시간이 초과되었습니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "참여 요청 처리가 중단되었습니다.");
+        }
+    }
+
+    public CompletableFuture<AdJoinedHistory> submit(Long adId, User user) {
+        Mailbox mailbox = mailboxes.computeIfAbsent(adId, Mailbox::new);
+        PendingJoin pending = new PendingJoin(user, new CompletableFuture<>());
+
+        mailbox.queue.add(pending);
+        schedule(mailbox);
+        return pending.future();
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("[AdJoinPipeline.close] 처리되지 않은 참여 요청이 남아있습니다.");
+        }
+
+        // 종료로 처리하지 못한 요청은 기다리는 쪽이 바로 실패하도록 완료
+        mailboxes.values().forEach(this::reject);
+    }
+
+    private void schedule(Mailbox mailbox) {
+        if (mailbox.draining.compareAndSet(false, true)) {
+            try {
+                workers.execute(() -> drain(mailbox));
+            } catch (RejectedExecutionException e) {
+                mailbox.draining.set(false);
+                reject(mailbox);
+            }
+        }
+    }
+
+    private void reject(Mailbox mailbox) {
+        CoreException e = new CoreException(ErrorType.INTERNAL_ERROR, "참여 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        PendingJoin pending;
+        while ((pending = mailbox.queue.poll()) != null) {
+            pending.future().completeExceptionally(e);
+        }
+    }
+
+    private void drain(Mailbox mailbox) {
+        try {
+            List<PendingJoin> batch = new ArrayList<>(batchSize);
+            PendingJoin pending;
+            while (batch.size() < batchSize && (pending = mailbox.queue.poll()) != null) {
+                batch.add(pending);
+            }
+
+            if (!batch.isEmpty()) {
+                process(mailbox.adId, batch);
+            }
+        } finally {
+            mailbox.draining.set(false);
+            if (!mailbox.queue.isEmpty()) {
+                schedule(mailbox); // 남은 요청은 다시 작업 큐 뒤로 보내 다른 광고와 번갈아 처리
+            } else {
+                evict(mailbox);
+            }
+        }
+    }
+
+    // 빈 메일박스는 정리, 정리 직전에 들어온 요청은 schedule 로 이 메일박스에서 그대로 처리되고 다음 요청부터 새 메일박스를 씀
+    private void evict(Mailbox mailbox) {
+        mailboxes.remove(mailbox.adId, mailbox);
+        if (!mailbox.queue.isEmpty()) {
+            schedule(mailbox);
+        }
+    }
+
+    private void process(Long adId, List<PendingJoin> batch) {
+        try {
+            List<AdJoinResult> results = adService.joinAll(adId, batch.stream().map(PendingJoin::user).toList());
+
+            for (int i = 0; i < batch.size(); i++) {
+                AdJoinResult result = results.get(i);
+                if (result.isSuccess()) {
+                    batch.get(i).future().complete(result.joinedHistory());
+                } else {
+                    batch.get(i).future().completeExceptionally(result.failure());
+                }
+            }
+        } catch (Exception e) {
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+        }
+    }
+
+    private record PendingJoin(
+        User user,
+        CompletableFuture<AdJoinedHistory> future
+    ) {
+    }
+
+    private static class Mailbox {
+
+        private final Long adId;
+        private final Queue<PendingJoin> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Mailbox(Long adId) {
+            this.adId = adId;
+        }
+    }
+}
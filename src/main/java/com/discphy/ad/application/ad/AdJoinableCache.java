@@ -0,0 +1,85 @@
+package com.discphy.ad.application.ad;
+
+import com.discphy.ad.domain.ad.AdCatalog;
+import com.discphy.ad.domain.ad.AdEligibilitySignature;
+import com.discphy.ad.domain.ad.AdEvent;
+import com.discphy.ad.domain.ad.AdInfo;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+@Component
+public class AdJoinableCache {
+
+    private final AdCatalog adCatalog;
+    private final Cache<Key, AdInfo.GetJoinAble> cache;
+    private final Cache<AdEligibilitySignature, AdInfo.GetJoinAble> sharedCache; // 사용자 캐시는 공유 목록을 참조만 함
+    private final Cache<Long, Long> generations; // 참여 시마다 올라가는 사용자별 세대
+
+    public AdJoinableCache(AdCatalog adCatalog,
+                           MeterRegistry meterRegistry,
+                           @Value("${ad.joinable-cache.maximum-size:100000}") long maximumSize,
+                           @Value("${ad.joinable-cache.shared-maximum-size:10000}") long sharedMaximumSize,
+                           @Value("${ad.joinable-cache.expire-after-write:5s}") Duration expireAfterWrite) {
+        this.adCatalog = adCatalog;
+        this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .<Key, AdInfo.GetJoinAble>build(), "ad.joinable");
+        this.sharedCache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+            .maximumSize(sharedMaximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .<AdEligibilitySignature, AdInfo.GetJoinAble>build(), "ad.joinable.shared");
+        this.generations = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite.multipliedBy(2)) // 이전 세대로 적재된 항목보다 오래 유지
+            .build();
+    }
+
+    public AdInfo.GetJoinAble get(Long userId, Supplier<AdInfo.GetJoinAble> loader) {
+        // 광고 등록/소진/종료로 카탈로그 버전이 바뀌거나 참여로 세대가 바뀌면 이전 항목은 조회되지 않고 크기/TTL 에 따라 밀려남
+        Key key = new Key(userId, adCatalog.version(), generationOf(userId));
+        AdInfo.GetJoinAble joinable = cache.get(key, k -> loader.get());
+        if (generationOf(userId) != key.generation()) {
+            cache.invalidate(key); // 적재 중 참여가 커밋되었으면 커밋 이전 상태로 적재된 항목을 남기지 않음
+        }
+        return joinable;
+    }
+
+    public AdInfo.GetJoinAble getShared(AdEligibilitySignature signature, Supplier<AdInfo.GetJoinAble> loader) {
+        return sharedCache.get(signature, key -> loader.get());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evict(AdEvent.Joined event) {
+        generations.asMap().merge(event.userId(), 1L, Long::sum);
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+        sharedCache.invalidateAll();
+        generations.invalidateAll();
+    }
+
+    private long generationOf(Long userId) {
+        Long generation = generations.getIfPresent(userId);
+        return generation != null ? generation : 0L;
+    }
+
+    private record Key(
+        Long userId,
+        long catalogVersion,
+        long generation
+    ) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.discphy.ad.application.ad;
+
+import com.discphy.ad.common.DataSourceRoutingContext;
+import com.discphy.ad.domain.ad.AdEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+@Component
+public class AdReadYourWrites {
+
+    private final Cache<Long, Boolean> recentlyJoinedUsers;
+
+    public AdReadYourWrites(@Value("${ad.datasource.replica.read-your-writes-window:10s}") Duration window) {
+        this.recentlyJoinedUsers = Caffeine.newBuilder()
+            .expireAfterWrite(window)
+            .build();
+    }
+
+    // 캐시 무효화보다 먼저 기록해야 무효화 직후의 재조회가 복제본의 이전 이력을 다시 캐시하지 않음
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void record(AdEvent.Joined event) {
+        recentlyJoinedUsers.put(event.userId(), Boolean.TRUE);
+    }
+
+    public <T> T read(Long userId, Supplier<T> reader) {
+        if (recentlyJoinedUsers.getIfPresent(userId) == null) {
+            return reader.get();
+        }
+
+        return DataSourceRoutingContext.primary(reader); // 방금 참여한 사용자는 복제 지연과 무관하게 자신의 참여를 조회
+    }
+
+    public void clear() {
+        recentlyJoinedUsers.invalidateAll();
+    }
+}
@@ -1,23 +1,20 @@
 package com.discphy.ad.application.point;
 
 import com.discphy.ad.domain.ad.AdEvent;
-import com.discphy.ad.domain.point.PointClient;
 import com.discphy.ad.domain.point.PointCommand;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.CompletableFuture;
 
 @Component
 @RequiredArgsConstructor
 public class PointEventListener {
 
-    private final PointClient pointClient;
+    private final PointRewardDispatcher pointRewardDispatcher;
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void handle(AdEvent.Joined event) {
-        pointClient.reward(PointCommand.Reward.of(event.userId(), event.rewardAmount()));
+    // 참여 이벤트는 아웃박스에 기록되고 AdEventOutboxRelay 가 전달, 적립은 일괄 요청에 묶여 완료됨
+    public CompletableFuture<Void> handle(String idempotencyKey, AdEvent.Joined event) {
+        return pointRewardDispatcher.submit(PointCommand.Reward.of(event.userId(), event.rewardAmount(), idempotencyKey));
     }
 }
@@ -0,0 +1,182 @@
+package com.discphy.ad.application.point;
+
+import com.discphy.ad.domain.point.PointCommand;
+import com.discphy.ad.exception.CoreException;
+import com.discphy.ad.exception.ErrorType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class PointRewardDispatcher {
+
+    private final ResilientPointClient pointClient;
+    private final int batchSize;
+    private final BlockingQueue<PendingReward> queue = new LinkedBlockingQueue<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService batcher;
+    private final ExecutorService senders;
+    private final Semaphore permits;
+    private final Duration bulkheadWait;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Duration drainTimeout;
+    private final DistributionSummary batchSizes;
+    private final Timer flushLatency;
+    private final Timer queueTime;
+
+    public PointRewardDispatcher(ResilientPointClient pointClient,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${point.reward.batch-size:100}") int batchSize,
+                                 @Value("${point.reward.batch-window:50ms}") Duration batchWindow,
+                                 @Value("${point.reward.parallelism:8}") int parallelism,
+                                 @Value("${point.reward.bulkhead-wait:5s}") Duration bulkheadWait,
+                                 @Value("${point.reward.drain-timeout:30s}") Duration drainTimeout) {
+        this.pointClient = pointClient;
+        this.batchSize = batchSize;
+        this.drainTimeout = drainTimeout;
+        this.batcher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("point-reward-batcher").factory());
+        // 포인트 API 응답을 기다리는 동안 플랫폼 스레드를 점유하지 않도록 가상 스레드로 보내고, 동시 호출 수는 세마포어로 제한
+        this.senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("point-reward-sender-", 0).factory());
+        this.permits = new Semaphore(parallelism);
+        this.bulkheadWait = bulkheadWait;
+        this.batchSizes = DistributionSummary.builder("point.reward.batch.size")
+            .description("포인트 일괄 적립 API 호출당 적립 건수")
+            .register(meterRegistry);
+        this.flushLatency = Timer.builder("point.reward.flush.latency")
+            .description("포인트 일괄 적립 API 호출 시간")
+            .register(meterRegistry);
+        this.queueTime = Timer.builder("point.reward.queue.time")
+            .description("적립 요청부터 포인트 API 호출 시작까지 대기 시간")
+            .register(meterRegistry);
+        Gauge.builder("point.reward.queue.depth", queue, BlockingQueue::size)
+            .description("일괄 적립을 기다리는 적립 건수")
+            .register(meterRegistry);
+        Gauge.builder("point.reward.queue.oldest", this, PointRewardDispatcher::oldestQueueTime)
+            .description("일괄 적립을 기다리는 가장 오래된 적립 건의 대기 시간")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("point.reward.in-flight", inFlight, AtomicInteger::get)
+            .description("응답을 기다리는 포인트 일괄 적립 API 호출 수")
+            .register(meterRegistry);
+
+        // 크기를 채우지 못해도 window 가 지나면 모인 만큼 보냄
+        batcher.scheduleWithFixedDelay(this::flush, batchWindow.toMillis(), batchWindow.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public CompletableFuture<Void> submit(PointCommand.Reward reward) {
+        PendingReward pending = new PendingReward(reward, System.nanoTime(), new CompletableFuture<>());
+        queue.add(pending);
+
+        if (queue.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            batcher.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+        return pending.future();
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        batcher.shutdown();
+        batcher.awaitTermination(5, TimeUnit.SECONDS);
+        flush(); // 남은 적립 건을 보내고 응답을 받을 때까지 기다린 뒤 종료
+        senders.shutdown();
+        if (!senders.awaitTermination(drainTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("[PointRewardDispatcher.close] 응답을 받지 못한 일괄 적립 요청이 남아있습니다: inFlight={}", inFlight.get());
+        }
+    }
+
+    private void flush() {
+        while (true) {
+            List<PendingReward> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            senders.execute(() -> send(batch));
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private void send(List<PendingReward> batch) {
+        // 포인트 API 가 느려도 대기 중인 호출이 한없이 쌓이지 않도록 기다리는 시간을 제한, 실패한 적립은 아웃박스에서 다시 발송
+        try {
+            if (!permits.tryAcquire(bulkheadWait.toMillis(), TimeUnit.MILLISECONDS)) {
+                CoreException e = new CoreException(ErrorType.INTERNAL_ERROR, "포인트 API 동시 호출 수를 초과했습니다.");
+                batch.forEach(pending -> pending.future().completeExceptionally(e));
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+            return;
+        }
+
+        // 적립마다 멱등 키가 다르므로 같은 사용자여도 합산하지 않고 그대로 보냄
+        List<PointCommand.Reward> rewards = batch.stream()
+            .map(PendingReward::reward)
+            .toList();
+        batchSizes.record(rewards.size());
+
+        long startedAt = System.nanoTime();
+        batch.forEach(pending -> queueTime.record(startedAt - pending.enqueuedAt(), TimeUnit.NANOSECONDS));
+        inFlight.incrementAndGet();
+        try {
+            Set<String> failedKeys = pointClient.rewardBatch(rewards).stream()
+                .map(PointCommand.Reward::idempotencyKey)
+                .collect(Collectors.toSet());
+            if (!failedKeys.isEmpty()) {
+                log.warn("[PointRewardDispatcher.send] 포인트 일괄 적립 중 일부 실패: count={} failed={}", rewards.size(), failedKeys.size());
+            }
+
+            // 적립하지 못한 건만 실패로 완료하여 아웃박스에서 해당 이벤트만 다시 발송
+            CoreException rejected = new CoreException(ErrorType.INTERNAL_ERROR, "포인트 적립에 실패했습니다.");
+            batch.forEach(pending -> {
+                if (failedKeys.contains(pending.reward().idempotencyKey())) {
+                    pending.future().completeExceptionally(rejected);
+                } else {
+                    pending.future().complete(null);
+                }
+            });
+        } catch (Exception e) {
+            // 호출 자체가 실패하면 건별 적용 여부를 알 수 없으므로 모두 실패로 보고, 다시 발송하는 건은 멱등 키로 중복 적립되지 않음
+            log.warn("[PointRewardDispatcher.send] 포인트 일괄 적립 실패: count={}", rewards.size(), e);
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+        } finally {
+            inFlight.decrementAndGet();
+            permits.release();
+            flushLatency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private double oldestQueueTime() {
+        PendingReward oldest = queue.peek();
+        return oldest == null ? 0 : (System.nanoTime() - oldest.enqueuedAt()) / 1_000_000_000.0;
+    }
+
+    private record PendingReward(
+        PointCommand.Reward reward,
+        long enqueuedAt,
+        CompletableFuture<Void> future
+    ) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.discphy.ad.application.point;
+
+import com.discphy.ad.common.CircuitBreaker;
+import com.discphy.ad.domain.point.PointClient;
+import com.discphy.ad.domain.point.PointCommand;
+import com.discphy.ad.exception.CoreException;
+import com.discphy.ad.exception.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Component
+public class ResilientPointClient {
+
+    private final PointClient pointClient;
+    private final CircuitBreaker circuitBreaker;
+    private final int maxAttempts;
+    private final long initialBackoff;
+    private final long maxBackoff;
+    private final Counter retries;
+    private final Counter rejected;
+
+    public ResilientPointClient(PointClient pointClient,
+                                MeterRegistry meterRegistry,
+                                @Value("${point.client.retry.max-attempts:3}") int maxAttempts,
+                                @Value("${point.client.retry.initial-backoff:200ms}") Duration initialBackoff,
+                                @Value("${point.client.retry.max-backoff:2s}") Duration maxBackoff,
+                                @Value("${point.client.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                                @Value("${point.client.circuit-breaker.open-duration:30s}") Duration openDuration) {
+        this.pointClient = pointClient;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDuration);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff.toMillis();
+        this.maxBackoff = maxBackoff.toMillis();
+        this.retries = Counter.builder("point.client.retries")
+            .description("포인트 API 재시도 횟수")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("point.client.rejected")
+            .description("서킷이 열려 보내지 않은 포인트 API 호출 수")
+            .register(meterRegistry);
+        Gauge.builder("point.client.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+            .description("포인트 API 서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+            .register(meterRegistry);
+    }
+
+    public List<PointCommand.Reward> rewardBatch(List<PointCommand.Reward> rewards) {
+        // 응답을 받지 못한 요청도 이미 적립되었을 수 있으므로 모든 건에 멱등 키가 있을 때만 다시 보냄
+        int attempts = rewards.stream().allMatch(reward -> reward.idempotencyKey() != null) ? maxAttempts : 1;
+
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.tryAcquire()) {
+                rejected.increment();
+                throw new CoreException(ErrorType.INTERNAL_ERROR, "포인트 API 장애로 적립 요청을 보내지 않았습니다.");
+            }
+
+            try {
+                List<PointCommand.Reward> failed = pointClient.rewardBatch(rewards);
+                circuitBreaker.onSuccess(); // 건별 실패는 포인트 API 장애가 아니므로 서킷에 반영하지 않음
+                return failed;
+            } catch (RuntimeException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    circuitBreaker.onIgnored(); // 종료 중 중단된 호출은 장애로 보지 않음
+                    throw e;
+                }
+
+                circuitBreaker.onFailure();
+                if (attempt >= attempts) {
+                    throw e;
+                }
+
+                retries.increment();
+                log.warn("[ResilientPointClient.rewardBatch] 포인트 일괄 적립 재시도: attempt={} count={}", attempt, rewards.size(), e);
+                sleep(backoff(attempt), e);
+            }
+        }
+    }
+
+    public boolean isAvailable() {
+        return circuitBreaker.isCallPermitted();
+    }
+
+    public void reset() {
+        circuitBreaker.reset();
+    }
+
+    // 여러 노드가 같은 시각에 다시 몰리지 않도록 지수 증가한 상한 안에서 무작위로 기다림
+    private long backoff(int attempt) {
+        long ceiling = Math.min(maxBackoff, initialBackoff << Math.min(attempt - 1, 30));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private void sleep(long millis, RuntimeException cause) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+}
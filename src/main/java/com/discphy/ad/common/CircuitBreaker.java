@@ -0,0 +1,88 @@
+package com.discphy.ad.common;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+// 연속 실패가 임계치를 넘으면 일정 시간 호출을 막고, 이후 한 번의 시험 호출 결과로 닫거나 다시 엶
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDuration;
+    private final LongSupplier clock;
+    private State state = State.CLOSED;
+    private int failures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration.toNanos();
+        this.clock = clock;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openDuration) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (trialInFlight) {
+                    yield false; // 시험 호출 결과가 나오기 전까지 나머지는 막음
+                }
+                trialInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        failures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        failures++;
+        if (state == State.HALF_OPEN || failures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+            trialInFlight = false;
+        }
+    }
+
+    // 결과를 판단할 수 없는 호출(중단 등)은 실패로 세지 않고 시험 호출 자리만 돌려줌
+    public synchronized void onIgnored() {
+        trialInFlight = false;
+    }
+
+    // 상태를 바꾸지 않고 지금 호출을 보낼 수 있는지만 확인
+    public synchronized boolean isCallPermitted() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> clock.getAsLong() - openedAt >= openDuration;
+            case HALF_OPEN -> !trialInFlight;
+        };
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public synchronized void reset() {
+        state = State.CLOSED;
+        failures = 0;
+        trialInFlight = false;
+    }
+}
@@ -0,0 +1,125 @@
+package com.discphy.ad.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 계층형 타이밍 휠, 휠 범위를 넘는 작업은 상위 휠에 두었다가 만료가 가까워지면 하위 휠로 내려보냄
+public class TimingWheel<T> {
+
+    private final long tick;
+    private final int wheelSize;
+    private Wheel<T> root;
+    private int size;
+
+    public TimingWheel(long tick, int wheelSize, long startAt) {
+        this.tick = tick;
+        this.wheelSize = wheelSize;
+        this.root = new Wheel<>(tick, wheelSize, startAt);
+    }
+
+    public synchronized boolean schedule(long deadline, T task) {
+        if (!root.add(new Entry<>(deadline, task))) {
+            return false; // 이미 만료된 시각, 호출하는 쪽에서 바로 처리
+        }
+
+        size++;
+        return true;
+    }
+
+    public synchronized void advance(long now, Consumer<T> consumer) {
+        root.advanceClock(now);
+
+        List<Entry<T>> expired = new ArrayList<>();
+        root.drainExpired(now, expired);
+
+        for (Entry<T> entry : expired) {
+            if (!root.add(entry)) { // 상위 휠에서 내려온 작업 중 아직 남은 작업은 하위 휠에 다시 등록
+                size--;
+                consumer.accept(entry.task());
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized void reset(long startAt) {
+        root = new Wheel<>(tick, wheelSize, startAt);
+        size = 0;
+    }
+
+    private record Entry<T>(
+        long deadline,
+        T task
+    ) {
+    }
+
+    private static class Wheel<T> {
+
+        private final long tick;
+        private final int wheelSize;
+        private final long interval;
+        private final List<List<Entry<T>>> buckets;
+        private final long[] expirations;
+        private long currentTime;
+        private Wheel<T> overflow;
+
+        private Wheel(long tick, int wheelSize, long startAt) {
+            this.tick = tick;
+            this.wheelSize = wheelSize;
+            this.interval = tick * wheelSize;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+            this.expirations = new long[wheelSize];
+            this.currentTime = startAt - (startAt % tick);
+        }
+
+        private boolean add(Entry<T> entry) {
+            if (entry.deadline() < currentTime + tick) {
+                return false;
+            }
+
+            if (entry.deadline() < currentTime + interval) {
+                long virtualId = entry.deadline() / tick;
+                int slot = (int) (virtualId % wheelSize);
+                buckets.get(slot).add(entry);
+                expirations[slot] = virtualId * tick;
+                return true;
+            }
+
+            if (overflow == null) {
+                overflow = new Wheel<>(interval, wheelSize, currentTime);
+            }
+            return overflow.add(entry);
+        }
+
+        private void advanceClock(long time) {
+            if (time < currentTime + tick) {
+                return;
+            }
+
+            currentTime = time - (time % tick);
+            if (overflow != null) {
+                overflow.advanceClock(currentTime);
+            }
+        }
+
+        private void drainExpired(long now, List<Entry<T>> expired) {
+            for (int slot = 0; slot < wheelSize; slot++) {
+                List<Entry<T>> bucket = buckets.get(slot);
+                if (!bucket.isEmpty() && expirations[slot] <= now) {
+                    expired.addAll(bucket);
+                    bucket.clear();
+                }
+            }
+
+            if (overflow != null) {
+                overflow.drainExpired(now, expired);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.discphy.ad.common;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 시간순 64비트 ID: 부호(1) + 밀리초(41) + 노드(10) + 시퀀스(12)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class Tsid {
+
+    public static final int NODE_BITS = 10;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    private static final AtomicLong STATE = new AtomicLong(); // 마지막 발급 (밀리초 << 12 | 시퀀스)
+    private static volatile long node;
+
+    public static void configure(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+
+        node = nodeId;
+    }
+
+    public static long next() {
+        while (true) {
+            long previous = STATE.get();
+            long now = System.currentTimeMillis() - EPOCH;
+
+            // 같은 밀리초이거나 시계가 뒤로 가면 이전 값에서 증가, 시퀀스가 넘치면 다음 밀리초를 앞당겨 사용
+            long next = now > previous >>> SEQUENCE_BITS
+                ? now << SEQUENCE_BITS
+                : previous + 1;
+
+            if (STATE.compareAndSet(previous, next)) {
+                return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)
+                    | node << SEQUENCE_BITS
+                    | next & SEQUENCE_MASK;
+            }
+        }
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH);
+    }
+
+    public static int nodeOf(long id) {
+        return (int) (id >>> SEQUENCE_BITS & MAX_NODE_ID);
+    }
+}
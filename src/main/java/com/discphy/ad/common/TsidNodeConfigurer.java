@@ -0,0 +1,16 @@
+package com.discphy.ad.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class TsidNodeConfigurer {
+
+    // 노드마다 다른 값을 주어야 여러 인스턴스가 같은 밀리초에 발급해도 ID가 겹치지 않음
+    public TsidNodeConfigurer(@Value("${ad.id.node-id:0}") int nodeId) {
+        Tsid.configure(nodeId);
+        log.info("[TsidNodeConfigurer] ID 발급 노드: {}", nodeId);
+    }
+}
@@ -1,5 +1,6 @@
 package com.discphy.ad.domain.ad;
 
+import com.discphy.ad.common.TsidGenerated;
 import com.discphy.ad.exception.CoreException;
 import com.discphy.ad.exception.ErrorType;
 import jakarta.persistence.*;
@@ -16,23 +17,29 @@ import java.time.LocalDateTime;
 @Table(
     name = "ad",
     indexes = {
-        @Index(name = "idx_ad_joinable", columnList = "join_count, started_at, ended_at, reward_amount DESC"),
+        @Index(name = "idx_ad_status_reward", columnList = "status, reward_amount DESC, ad_id"),
+        @Index(name = "idx_ad_status_started", columnList = "status, started_at"),
+        @Index(name = "idx_ad_status_ended", columnList = "status, ended_at"),
     }
 )
 public class Ad {
 
     public static final long MAX_REWARD_AMOUNT = 1_000_000L;
     public static final int MAX_JOIN_COUNT = 100;
+    public static final int DEFAULT_INVENTORY_SLOT_COUNT = 1;
+    public static final int MAX_INVENTORY_SLOT_COUNT = 32;
 
     @Id
     @Column(name = "ad_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     private Long id;
 
     @Column(unique = true)
     private String name;
     private long rewardAmount;
     private int joinCount;
+    private int totalJoinCount;
+    private int inventorySlotCount;
     private String description;
     private String imageUrl;
     private LocalDateTime startedAt;
@@ -42,6 +49,9 @@ public class Ad {
     private AdJoinConditionType type;
     private String context;
 
+    @Enumerated(EnumType.STRING)
+    private AdStatus status;
+
     @Builder
     private Ad(Long id,
                String name,
@@ -52,22 +62,27 @@ public class Ad {
                LocalDateTime startedAt,
                LocalDateTime endedAt,
                AdJoinConditionType type,
-               String context) {
+               String context,
+               Integer inventorySlotCount) {
         validateName(name);
         validateRewardAmount(rewardAmount);
         validateJoinCount(joinCount);
         validatePeriod(startedAt, endedAt);
+        validateInventorySlotCount(inventorySlotCount);
 
         this.id = id;
         this.name = name;
         this.rewardAmount = rewardAmount;
         this.joinCount = joinCount;
+        this.totalJoinCount = joinCount;
+        this.inventorySlotCount = inventorySlotCount != null ? inventorySlotCount : DEFAULT_INVENTORY_SLOT_COUNT;
         this.description = description;
         this.imageUrl = imageUrl;
         this.startedAt = startedAt;
         this.endedAt = endedAt;
         this.type = type;
         this.context = context;
+        this.status = statusAt(LocalDateTime.now());
     }
 
     public static Ad create(AdCommand.Create command) {
@@ -81,6 +96,7 @@ public class Ad {
             .endedAt(command.endedAt())
             .type(command.type())
             .context(command.context())
+            .inventorySlotCount(command.inventorySlotCount())
             .build();
     }
 
@@ -90,6 +106,32 @@ public class Ad {
         }
 
         joinCount--;
+        if (joinCount == 0) {
+            status = AdStatus.SOLD_OUT;
+        }
+    }
+
+    public boolean isEnded(LocalDateTime dateTime) {
+        return endedAt.isBefore(dateTime);
+    }
+
+    public AdStatus statusAt(LocalDateTime dateTime) {
+        if (isEnded(dateTime)) {
+            return AdStatus.ENDED;
+        }
+        return startedAt.isAfter(dateTime) ? AdStatus.SCHEDULED : AdStatus.ACTIVE;
+    }
+
+    public int reconcileJoinCount(long joinedCount) {
+        if (totalJoinCount <= 0) {
+            return joinCount; // 총 참여 가능 횟수가 기록되지 않은 기존 광고
+        }
+
+        return (int) Math.max(Math.min(joinCount, totalJoinCount - joinedCount), 0);
+    }
+
+    public int getInventorySlotCount() {
+        return Math.max(inventorySlotCount, DEFAULT_INVENTORY_SLOT_COUNT); // 슬롯 수가 기록되지 않은 기존 광고
     }
 
     private void validateName(String name) {
@@ -110,6 +152,12 @@ public class Ad {
         }
     }
 
+    private void validateInventorySlotCount(Integer inventorySlotCount) {
+        if (inventorySlotCount != null && (inventorySlotCount <= 0 || inventorySlotCount > MAX_INVENTORY_SLOT_COUNT)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "참여 횟수 슬롯 수가 유효하지 않습니다.");
+        }
+    }
+
     private void validatePeriod(LocalDateTime startedAt, LocalDateTime endedAt) {
         if (startedAt == null || endedAt == null) {
             throw new CoreException(ErrorType.BAD_REQUEST, "노출 기간은 필수입니다.");
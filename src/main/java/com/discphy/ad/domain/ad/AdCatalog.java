@@ -0,0 +1,152 @@
+package com.discphy.ad.domain.ad;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Slf4j
+@Component
+public class AdCatalog {
+
+    private final AdJoinInventoryStrategy adJoinInventoryStrategy;
+    private final AdJoinConditionStrategy adJoinConditionStrategy;
+    private final Duration maxStaleness;
+
+    // 읽기는 락 없이 현재 스냅샷을 참조하고, 변경은 새 스냅샷을 만들어 통째로 교체
+    private volatile AdCatalogSnapshot snapshot;
+    private long version;
+    private final Set<List<Change>> refreshing = Collections.newSetFromMap(new IdentityHashMap<>()); // 조회 중인 갱신마다 그 사이의 변경을 기록
+
+    public AdCatalog(AdJoinInventoryStrategy adJoinInventoryStrategy,
+                     AdJoinConditionStrategy adJoinConditionStrategy,
+                     @Value("${ad.catalog.max-staleness:30s}") Duration maxStaleness) {
+        this.adJoinInventoryStrategy = adJoinInventoryStrategy;
+        this.adJoinConditionStrategy = adJoinConditionStrategy;
+        this.maxStaleness = maxStaleness;
+    }
+
+    public Optional<AdCatalogSnapshot> find() {
+        AdCatalogSnapshot current = snapshot;
+        if (current == null || current.isOlderThan(maxStaleness, LocalDateTime.now())) {
+            return Optional.empty(); // 갱신이 밀려 최대 지연을 넘긴 스냅샷은 사용하지 않음
+        }
+        return Optional.of(current);
+    }
+
+    public long version() {
+        AdCatalogSnapshot current = snapshot;
+        return current != null ? current.getVersion() : 0L;
+    }
+
+    @Scheduled(fixedDelayString = "${ad.catalog.refresh-interval:10000}")
+    public void refreshPeriodically() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("[AdCatalog.refreshPeriodically] 광고 카탈로그 갱신 실패: version={}", version(), e); // 기존 스냅샷 유지
+        }
+    }
+
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Change> changes = new ArrayList<>();
+        synchronized (this) {
+            refreshing.add(changes);
+        }
+
+        try {
+            List<Ad> ads = adJoinInventoryStrategy.get().findJoinableAds(now);
+
+            synchronized (this) {
+                // 조회 이후 커밋된 추가, 제거는 조회 결과에 빠져 있을 수 있으므로 다시 적용
+                List<Ad> merged = apply(ads, changes);
+
+                // 광고 구성이 그대로면 버전을 유지하여 버전 기준으로 캐싱된 결과가 무효화되지 않게 함
+                long next = snapshot != null && snapshot.hasSameAds(merged) ? version : version + 1;
+                swap(AdCatalogSnapshot.of(next, now, merged, adJoinConditionStrategy::predicateOf));
+            }
+        } finally {
+            synchronized (this) {
+                refreshing.remove(changes);
+            }
+        }
+    }
+
+    public void removeAfterCommit(Long adId) {
+        afterCommit(() -> remove(adId));
+    }
+
+    public synchronized void clear() {
+        snapshot = null;
+    }
+
+    public synchronized void add(Ad ad) {
+        record(new Change(ad.getId(), ad));
+        if (snapshot == null) {
+            return; // 첫 적재 시 함께 반영
+        }
+        swap(snapshot.with(ad, version + 1));
+    }
+
+    public synchronized void remove(Long adId) {
+        record(new Change(adId, null));
+        if (snapshot == null || !snapshot.contains(adId)) {
+            return;
+        }
+        swap(snapshot.without(adId, version + 1));
+    }
+
+    private void record(Change change) { // this 로 동기화된 구간에서만 호출
+        refreshing.forEach(changes -> changes.add(change));
+    }
+
+    private List<Ad> apply(List<Ad> ads, List<Change> changes) {
+        if (changes.isEmpty()) {
+            return ads;
+        }
+
+        Map<Long, Ad> merged = new LinkedHashMap<>();
+        ads.forEach(ad -> merged.put(ad.getId(), ad));
+        for (Change change : changes) {
+            if (change.ad() == null) {
+                merged.remove(change.adId());
+            } else {
+                merged.put(change.adId(), change.ad());
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private void swap(AdCatalogSnapshot next) { // this 로 동기화된 구간에서만 호출
+        version = next.getVersion();
+        snapshot = next;
+        log.debug("[AdCatalog.swap] 광고 카탈로그 교체: version={} size={}", next.getVersion(), next.getAds().size());
+    }
+
+    private void afterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+    private record Change(
+        Long adId,
+        Ad ad // null 이면 제거
+    ) {
+    }
+}
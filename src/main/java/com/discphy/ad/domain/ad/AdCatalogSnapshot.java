@@ -0,0 +1,99 @@
+package com.discphy.ad.domain.ad;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Getter
+public class AdCatalogSnapshot {
+
+    private final long version;
+    private final LocalDateTime loadedAt; // 마지막으로 DB 와 맞춘 시각
+    private final List<Ad> ads; // 적립 액수 내림차순
+
+    @Getter(AccessLevel.NONE)
+    private final AdEligibilityIndex index;
+
+    @Getter(AccessLevel.NONE)
+    private final Function<Ad, AdJoinPredicate> predicates;
+
+    private AdCatalogSnapshot(long version,
+                              LocalDateTime loadedAt,
+                              List<Ad> ads,
+                              Function<Ad, AdJoinPredicate> predicates) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.ads = ads.stream().sorted(AdEligibilityIndex.REWARD_ORDER).toList();
+        this.predicates = predicates;
+        this.index = AdEligibilityIndex.of(this.ads, predicates);
+    }
+
+    public static AdCatalogSnapshot of(long version,
+                                       LocalDateTime loadedAt,
+                                       List<Ad> ads,
+                                       Function<Ad, AdJoinPredicate> predicates) {
+        return new AdCatalogSnapshot(version, loadedAt, ads, predicates);
+    }
+
+    public AdCatalogSnapshot with(Ad ad, long version) {
+        List<Ad> added = new ArrayList<>(ads.size() + 1);
+        ads.stream().filter(it -> !it.getId().equals(ad.getId())).forEach(added::add);
+        added.add(ad);
+        return new AdCatalogSnapshot(version, loadedAt, added, predicates);
+    }
+
+    public AdCatalogSnapshot without(Long adId, long version) {
+        List<Ad> removed = ads.stream()
+            .filter(it -> !it.getId().equals(adId))
+            .toList();
+        return new AdCatalogSnapshot(version, loadedAt, removed, predicates);
+    }
+
+    public boolean contains(Long adId) {
+        return ads.stream().anyMatch(ad -> ad.getId().equals(adId));
+    }
+
+    // 참여 조건, 노출 기간, 응답에 담기는 내용까지 같아야 같은 구성으로 판단, 참여마다 줄어드는 남은 횟수는 비교하지 않음
+    public boolean hasSameAds(List<Ad> others) {
+        if (ads.size() != others.size()) {
+            return false;
+        }
+
+        Map<Long, Ad> byId = ads.stream().collect(Collectors.toMap(Ad::getId, Function.identity()));
+        return others.stream().allMatch(other -> hasSameContent(byId.get(other.getId()), other));
+    }
+
+    public boolean isOlderThan(Duration duration, LocalDateTime dateTime) {
+        return loadedAt.plus(duration).isBefore(dateTime);
+    }
+
+    public List<Ad> findEligible(UserJoinProfile profile, LocalDateTime dateTime, int limit) {
+        return index.findEligible(profile, dateTime, limit);
+    }
+
+    public Optional<AdEligibilitySignature> signatureOf(UserJoinProfile profile) {
+        return index.signatureOf(profile, version);
+    }
+
+    private static boolean hasSameContent(Ad ad, Ad other) {
+        return ad != null
+            && ad.getRewardAmount() == other.getRewardAmount()
+            && ad.getType() == other.getType()
+            && ad.getStatus() == other.getStatus()
+            && Objects.equals(ad.getContext(), other.getContext())
+            && Objects.equals(ad.getStartedAt(), other.getStartedAt())
+            && Objects.equals(ad.getEndedAt(), other.getEndedAt())
+            && Objects.equals(ad.getName(), other.getName())
+            && Objects.equals(ad.getDescription(), other.getDescription())
+            && Objects.equals(ad.getImageUrl(), other.getImageUrl());
+    }
+}
@@ -1,5 +1,8 @@
 package com.discphy.ad.domain.ad;
 
+import com.discphy.ad.exception.CoreException;
+import com.discphy.ad.exception.ErrorType;
+
 import java.time.LocalDateTime;
 
 public class AdCommand {
@@ -13,8 +16,20 @@ public class AdCommand {
         LocalDateTime startedAt,
         LocalDateTime endedAt,
         AdJoinConditionType type,
-        String context
+        String context,
+        int inventorySlotCount
     ) {
+        public Create(String name,
+                      long rewardAmount,
+                      int joinCount,
+                      String description,
+                      String imageUrl,
+                      LocalDateTime startedAt,
+                      LocalDateTime endedAt,
+                      AdJoinConditionType type,
+                      String context) {
+            this(name, rewardAmount, joinCount, description, imageUrl, startedAt, endedAt, type, context, Ad.DEFAULT_INVENTORY_SLOT_COUNT);
+        }
     }
 
     public record Join(
@@ -29,12 +44,54 @@ public class AdCommand {
     public record JoinedHistoriesQuery(
         Long userId,
         int page,
-        int size
+        int size,
+        AdJoinedHistoryCursor cursor, // 있으면 page 대신 커서 이후부터 조회
+        LocalDateTime from, // 참여 시각 조회 기간, 지정하면 해당 월 파티션만 읽음
+        LocalDateTime to
     ) {
+        private static final LocalDateTime MIN_JOINED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+        private static final LocalDateTime MAX_JOINED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+        public JoinedHistoriesQuery(Long userId, int page, int size) {
+            this(userId, page, size, null);
+        }
+
+        public JoinedHistoriesQuery(Long userId, int page, int size, AdJoinedHistoryCursor cursor) {
+            this(userId, page, size, cursor, null, null);
+        }
+
         public static JoinedHistoriesQuery of(Long userId, int page, int size) {
             return new JoinedHistoriesQuery(userId, page, size);
         }
 
+        public static JoinedHistoriesQuery of(Long userId, String cursor, int size) {
+            return new JoinedHistoriesQuery(userId, 1, size, AdJoinedHistoryCursor.decode(cursor));
+        }
+
+        public static JoinedHistoriesQuery of(Long userId, int page, int size, String cursor, LocalDateTime from, LocalDateTime to) {
+            if (from != null && to != null && !from.isBefore(to)) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+            }
+
+            return new JoinedHistoriesQuery(userId, page, size, cursor != null ? AdJoinedHistoryCursor.decode(cursor) : null, from, to);
+        }
+
+        public boolean hasCursor() {
+            return cursor != null;
+        }
+
+        public boolean hasPeriod() {
+            return from != null || to != null;
+        }
+
+        public LocalDateTime from() {
+            return from != null ? from : MIN_JOINED_AT;
+        }
+
+        public LocalDateTime to() {
+            return to != null ? to : MAX_JOINED_AT;
+        }
+
         public int page() {
             return Math.max(page - 1, 0);
         }
@@ -43,4 +100,20 @@ public class AdCommand {
             return Math.min(size, 50);
         }
     }
+
+    public record ExportJoinedHistories(
+        LocalDateTime from,
+        LocalDateTime to
+    ) {
+        public static ExportJoinedHistories of(LocalDateTime from, LocalDateTime to) {
+            if (from == null || to == null) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "조회 기간을 입력해주세요.");
+            }
+            if (!from.isBefore(to)) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "조회 기간이 올바르지 않습니다.");
+            }
+
+            return new ExportJoinedHistories(from, to);
+        }
+    }
 }
@@ -0,0 +1,171 @@
+package com.discphy.ad.domain.ad;
+
+import com.discphy.ad.domain.ad.condition.CountOverJoinCondition;
+import com.discphy.ad.domain.ad.condition.SpecificAdIdJoinCondition;
+import com.discphy.ad.exception.CoreException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class AdEligibilityIndex {
+
+    static final Comparator<Ad> REWARD_ORDER = Comparator.comparingLong(Ad::getRewardAmount).reversed()
+        .thenComparing(Ad::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final List<Ad> firstJoinAds;
+    private final int[] countOverThresholds; // 오름차순
+    private final List<List<Ad>> countOverAds; // countOverThresholds 와 같은 순서
+    private final Map<Long, List<Ad>> specificAdIdAds; // 선행 광고 ID 별
+    private final List<Ad> otherAds;
+    private final Map<Ad, AdJoinPredicate> otherPredicates;
+
+    private AdEligibilityIndex(List<Ad> firstJoinAds,
+                               int[] countOverThresholds,
+                               List<List<Ad>> countOverAds,
+                               Map<Long, List<Ad>> specificAdIdAds,
+                               List<Ad> otherAds,
+                               Map<Ad, AdJoinPredicate> otherPredicates) {
+        this.firstJoinAds = firstJoinAds;
+        this.countOverThresholds = countOverThresholds;
+        this.countOverAds = countOverAds;
+        this.specificAdIdAds = specificAdIdAds;
+        this.otherAds = otherAds;
+        this.otherPredicates = otherPredicates;
+    }
+
+    public static AdEligibilityIndex of(List<Ad> ads, Function<Ad, AdJoinPredicate> predicates) {
+        List<Ad> firstJoinAds = new ArrayList<>();
+        TreeMap<Integer, List<Ad>> countOverAds = new TreeMap<>();
+        Map<Long, List<Ad>> specificAdIdAds = new HashMap<>();
+        List<Ad> otherAds = new ArrayList<>();
+        Map<Ad, AdJoinPredicate> otherPredicates = new IdentityHashMap<>();
+
+        for (Ad ad : ads.stream().sorted(REWARD_ORDER).toList()) { // 각 목록은 적립 액수 내림차순 유지
+            AdJoinPredicate predicate;
+            try {
+                predicate = predicates.apply(ad);
+            } catch (CoreException e) {
+                log.warn("[AdEligibilityIndex.of] 참여 조건 컴파일 실패로 제외: adId={}", ad.getId(), e);
+                continue;
+            }
+
+            if (predicate instanceof CountOverJoinCondition.CountOver countOver) {
+                countOverAds.computeIfAbsent(countOver.joinCount(), k -> new ArrayList<>()).add(ad);
+            } else if (predicate instanceof SpecificAdIdJoinCondition.SpecificAdId specificAdId) {
+                specificAdIdAds.computeIfAbsent(specificAdId.adId(), k -> new ArrayList<>()).add(ad);
+            } else if (ad.getType() == AdJoinConditionType.FIRST_JOIN) {
+                firstJoinAds.add(ad);
+            } else {
+                otherAds.add(ad);
+                otherPredicates.put(ad, predicate);
+            }
+        }
+
+        return new AdEligibilityIndex(
+            List.copyOf(firstJoinAds),
+            countOverAds.keySet().stream().mapToInt(Integer::intValue).toArray(),
+            countOverAds.values().stream().map(List::copyOf).toList(),
+            specificAdIdAds.entrySet().stream().collect(
+                Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> List.copyOf(e.getValue()))
+            ),
+            List.copyOf(otherAds),
+            otherPredicates
+        );
+    }
+
+    public List<Ad> findEligible(UserJoinProfile profile, LocalDateTime dateTime, int limit) {
+        Predicate<Ad> displayed = ad -> !ad.getStartedAt().isAfter(dateTime) && !ad.isEnded(dateTime);
+        PriorityQueue<Cursor> cursors = new PriorityQueue<>((a, b) -> REWARD_ORDER.compare(a.current, b.current));
+
+        if (profile.isEmpty()) {
+            offer(cursors, firstJoinAds, displayed);
+        }
+
+        int eligibleBuckets = upperBound(countOverThresholds, profile.getJoinCount());
+        for (int i = 0; i < eligibleBuckets; i++) {
+            offer(cursors, countOverAds.get(i), displayed);
+        }
+
+        profile.joinedAdIds()
+            .mapToObj(specificAdIdAds::get)
+            .filter(Objects::nonNull)
+            .forEach(ads -> offer(cursors, ads, displayed));
+
+        offer(cursors, otherAds, displayed.and(ad -> otherPredicates.get(ad).test(profile)));
+
+        // 후보 목록별 선두끼리 비교하는 k-way 병합, limit 개를 찾으면 중단
+        List<Ad> eligible = new ArrayList<>(Math.min(limit, 16));
+        while (!cursors.isEmpty() && eligible.size() < limit) {
+            Cursor cursor = cursors.poll();
+            eligible.add(cursor.current);
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+
+        return eligible;
+    }
+
+    public Optional<AdEligibilitySignature> signatureOf(UserJoinProfile profile, long catalogVersion) {
+        if (!otherAds.isEmpty()) {
+            return Optional.empty(); // 사용자 정보 전체로 평가해야 하는 조건이 있으면 공유하지 않음
+        }
+
+        return Optional.of(new AdEligibilitySignature(
+            catalogVersion,
+            profile.isEmpty(),
+            upperBound(countOverThresholds, profile.getJoinCount()),
+            profile.joinedAdIds().filter(specificAdIdAds::containsKey).boxed().toList()
+        ));
+    }
+
+    private void offer(PriorityQueue<Cursor> cursors, List<Ad> ads, Predicate<Ad> filter) {
+        Cursor cursor = new Cursor(ads, filter);
+        if (cursor.advance()) {
+            cursors.add(cursor);
+        }
+    }
+
+    private int upperBound(int[] thresholds, long joinCount) {
+        int low = 0;
+        int high = thresholds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid] <= joinCount) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static class Cursor {
+
+        private final List<Ad> ads;
+        private final Predicate<Ad> filter;
+        private int position = -1;
+        private Ad current;
+
+        private Cursor(List<Ad> ads, Predicate<Ad> filter) {
+            this.ads = ads;
+            this.filter = filter;
+        }
+
+        private boolean advance() {
+            while (++position < ads.size()) {
+                Ad ad = ads.get(position);
+                if (filter.test(ad)) {
+                    current = ad;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.discphy.ad.domain.ad;
+
+import java.util.List;
+
+public record AdEligibilitySignature(
+    long catalogVersion,
+    boolean firstJoin, // 참여 이력 없음
+    int countOverBucket, // 만족하는 COUNT_OVER 기준 개수
+    List<Long> prerequisiteAdIds // 참여한 광고 중 SPECIFIC_AD_ID 선행 광고, 오름차순
+) {
+}
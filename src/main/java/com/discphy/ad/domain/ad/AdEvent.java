@@ -19,4 +19,14 @@ public class AdEvent {
             );
         }
     }
+
+    public record SoldOut(
+        Long adId
+    ) {
+    }
+
+    public record Reopened(
+        Long adId
+    ) {
+    }
 }
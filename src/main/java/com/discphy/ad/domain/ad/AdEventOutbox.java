@@ -0,0 +1,68 @@
+package com.discphy.ad.domain.ad;
+
+import com.discphy.ad.common.DataSerializer;
+import com.discphy.ad.common.TsidGenerated;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "ad_event_outbox",
+    indexes = {
+        @Index(name = "idx_ad_event_outbox", columnList = "status, available_at")
+    }
+)
+public class AdEventOutbox {
+
+    @Id
+    @Column(name = "ad_event_outbox_id")
+    @TsidGenerated
+    private Long id;
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    private AdEventOutboxStatus status;
+
+    private int attempts;
+    private LocalDateTime availableAt; // 이 시각 이후 릴레이가 가져갈 수 있음
+    private LocalDateTime createdAt;
+    private LocalDateTime sentAt;
+
+    private AdEventOutbox(String payload, LocalDateTime createdAt) {
+        this.payload = payload;
+        this.status = AdEventOutboxStatus.PENDING;
+        this.availableAt = createdAt;
+        this.createdAt = createdAt;
+    }
+
+    public static AdEventOutbox joined(AdJoinedHistory joinedUser) {
+        return new AdEventOutbox(DataSerializer.serialize(AdEvent.Joined.of(joinedUser)), joinedUser.getJoinedAt());
+    }
+
+    public AdEvent.Joined toJoined() {
+        return DataSerializer.deserialize(payload, AdEvent.Joined.class);
+    }
+
+    // 점유 기한이 지나거나 재발송되어 다시 보내도 같은 키를 쓰므로 포인트 API 가 중복 적립하지 않음
+    public String idempotencyKey() {
+        return "ad-event-outbox:" + id;
+    }
+
+    // 발송 결과를 기록하지 못하고 종료되어도 점유 기한이 지나면 다시 가져감
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.availableAt = leaseUntil;
+    }
+
+    public boolean isExhausted(int maxAttempts) {
+        return attempts >= maxAttempts;
+    }
+}
@@ -0,0 +1,14 @@
+package com.discphy.ad.domain.ad;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum AdEventOutboxStatus {
+
+    PENDING("발송 대기"),
+    SENT("발송 완료"),
+    DEAD("발송 포기"), // 재시도 한도를 넘긴 이벤트, 원인 해결 후 다시 발송 대기로 되돌림
+    ;
+
+    private final String description;
+}
@@ -67,19 +67,26 @@ public class AdInfo {
         Long userId,
         int page,
         int size,
-        List<JoinedHistory> histories
+        List<JoinedHistory> histories,
+        String nextCursor
     ) {
         public static GetJoinedHistories of(Long userId, int page, int size, List<JoinedHistory> histories) {
+            return of(userId, page, size, histories, null);
+        }
+
+        public static GetJoinedHistories of(Long userId, int page, int size, List<JoinedHistory> histories, String nextCursor) {
             return new GetJoinedHistories(
                 userId,
                 page + 1,
                 size,
-                histories
+                histories,
+                nextCursor
             );
         }
     }
 
     public record JoinedHistory(
+        Long id,
         Long adId,
         Long userId,
         String name,
@@ -88,6 +95,7 @@ public class AdInfo {
     ) {
         public static JoinedHistory from(AdJoinedHistory joinedUser) {
             return new JoinedHistory(
+                joinedUser.getId(),
                 joinedUser.getAdId(),
                 joinedUser.getUserId(),
                 joinedUser.getName(),
@@ -0,0 +1,46 @@
+package com.discphy.ad.domain.ad;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "ad_inventory_slot",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_ad_inventory_slot", columnNames = {"ad_id", "slot_no"})
+    }
+)
+public class AdInventorySlot {
+
+    @Id
+    @Column(name = "ad_inventory_slot_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long adId;
+    private int slotNo;
+    private int remaining;
+
+    private AdInventorySlot(Long adId, int slotNo, int remaining) {
+        this.adId = adId;
+        this.slotNo = slotNo;
+        this.remaining = remaining;
+    }
+
+    public static List<AdInventorySlot> split(Ad ad) {
+        int slotCount = ad.getInventorySlotCount();
+        int quotient = ad.getJoinCount() / slotCount;
+        int remainder = ad.getJoinCount() % slotCount;
+
+        return IntStream.range(0, slotCount)
+            .mapToObj(slotNo -> new AdInventorySlot(ad.getId(), slotNo, quotient + (slotNo < remainder ? 1 : 0)))
+            .toList();
+    }
+}
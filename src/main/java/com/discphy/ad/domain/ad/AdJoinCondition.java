@@ -8,5 +8,13 @@ public interface AdJoinCondition {
 
     boolean isValid(String context);
 
-    boolean isSatisfied(List<AdJoinedHistory> histories, String context);
+    AdJoinPredicate compile(String context);
+
+    default boolean isSatisfied(UserJoinProfile profile, String context) {
+        return compile(context).test(profile);
+    }
+
+    default boolean isSatisfied(List<AdJoinedHistory> histories, String context) {
+        return isSatisfied(UserJoinProfile.from(histories), context);
+    }
 }
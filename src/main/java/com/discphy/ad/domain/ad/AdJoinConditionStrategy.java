@@ -1,28 +1,49 @@
 package com.discphy.ad.domain.ad;
 
 import com.discphy.ad.exception.CoreException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.discphy.ad.exception.ErrorType;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
 public class AdJoinConditionStrategy {
 
+    private static final long COMPILED_CONDITIONS_MAXIMUM_SIZE = 10_000L;
+
     private final Map<AdJoinConditionType, AdJoinCondition> strategies;
+    // 종료되거나 소진된 광고는 다시 평가되지 않으므로 크기를 제한해 쓰이지 않는 항목부터 밀려나게 함
+    private final Cache<Long, CompiledCondition> compiledConditions = Caffeine.newBuilder()
+        .maximumSize(COMPILED_CONDITIONS_MAXIMUM_SIZE)
+        .build();
 
     public AdJoinConditionStrategy(List<AdJoinCondition> strategies) {
         this.strategies = strategies.stream()
             .collect(Collectors.toMap(AdJoinCondition::type, strategy -> strategy));
     }
 
-    public boolean isSatisfied(Ad ad, List<AdJoinedHistory> histories) {
-        return Optional.ofNullable(strategies.get(ad.getType()))
-            .map(strategy -> strategy.isSatisfied(histories, ad.getContext()))
-            .orElseThrow(() -> new CoreException(ErrorType.INTERNAL_ERROR, "지원하지 않는 광고 타입입니다: " + ad.getType()));
+    public boolean isSatisfied(Ad ad, UserJoinProfile profile) {
+        return predicateOf(ad).test(profile);
+    }
+
+    public AdJoinPredicate predicateOf(Ad ad) {
+        if (ad.getId() == null) {
+            return compile(ad);
+        }
+
+        CompiledCondition compiled = compiledConditions.getIfPresent(ad.getId());
+        if (compiled == null || !compiled.matches(ad)) {
+            compiled = new CompiledCondition(ad.getType(), ad.getContext(), compile(ad)); // 참여 조건이 변경된 경우 다시 컴파일
+            compiledConditions.put(ad.getId(), compiled);
+        }
+
+        return compiled.predicate();
     }
 
     public boolean isInvalid(AdJoinConditionType type, String context) {
@@ -30,4 +51,20 @@ public class AdJoinConditionStrategy {
             .map(strategy -> !strategy.isValid(context))
             .orElse(true);
     }
+
+    private AdJoinPredicate compile(Ad ad) {
+        return Optional.ofNullable(strategies.get(ad.getType()))
+            .map(strategy -> strategy.compile(ad.getContext()))
+            .orElseThrow(() -> new CoreException(ErrorType.INTERNAL_ERROR, "지원하지 않는 광고 타입입니다: " + ad.getType()));
+    }
+
+    private record CompiledCondition(
+        AdJoinConditionType type,
+        String context,
+        AdJoinPredicate predicate
+    ) {
+        private boolean matches(Ad ad) {
+            return type == ad.getType() && Objects.equals(context, ad.getContext());
+        }
+    }
 }
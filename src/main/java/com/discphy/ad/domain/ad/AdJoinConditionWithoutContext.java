@@ -1,14 +1,17 @@
 package com.discphy.ad.domain.ad;
 
-import java.util.List;
-
 public interface AdJoinConditionWithoutContext extends AdJoinCondition {
 
-    boolean isSatisfied(List<AdJoinedHistory> histories);
+    boolean isSatisfied(UserJoinProfile profile);
+
+    @Override
+    default AdJoinPredicate compile(String context) {
+        return this::isSatisfied;
+    }
 
     @Override
-    default boolean isSatisfied(List<AdJoinedHistory> histories, String context) {
-        return isSatisfied(histories);
+    default boolean isSatisfied(UserJoinProfile profile, String context) {
+        return isSatisfied(profile);
     }
 
     @Override
@@ -0,0 +1,25 @@
+package com.discphy.ad.domain.ad;
+
+import com.discphy.ad.domain.user.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface AdJoinInventory {
+
+    AdJoinMode mode();
+
+    Optional<Ad> findAd(Long adId);
+
+    List<Ad> findJoinableAds(LocalDateTime dateTime);
+
+    List<Ad> findJoinableAds(LocalDateTime dateTime, AdJoinableCursor cursor, int size);
+
+    int decrease(Ad ad, User user);
+
+    // 차감 결과로 남은 횟수가 0 이 된 뒤, 커밋 시점에도 소진 상태인지 확인 (롤백으로 되돌려지는 재고만 재정의)
+    default boolean isSoldOut(Long adId) {
+        return true;
+    }
+}
@@ -0,0 +1,30 @@
+package com.discphy.ad.domain.ad;
+
+import com.discphy.ad.exception.CoreException;
+import com.discphy.ad.exception.ErrorType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Component
+public class AdJoinInventoryStrategy {
+
+    private final Map<AdJoinMode, AdJoinInventory> inventories;
+    private final AdJoinMode mode;
+
+    public AdJoinInventoryStrategy(List<AdJoinInventory> inventories,
+                                   @Value("${ad.join.mode:PESSIMISTIC_LOCK}") AdJoinMode mode) {
+        this.inventories = inventories.stream()
+            .collect(Collectors.toMap(AdJoinInventory::mode, inventory -> inventory));
+        this.mode = mode;
+    }
+
+    public AdJoinInventory get() {
+        return Optional.ofNullable(inventories.get(mode))
+            .orElseThrow(() -> new CoreException(ErrorType.INTERNAL_ERROR, "지원하지 않는 광고 참여 방식입니다: " + mode));
+    }
+}
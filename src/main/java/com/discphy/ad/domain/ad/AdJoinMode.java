@@ -0,0 +1,16 @@
+package com.discphy.ad.domain.ad;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum AdJoinMode {
+
+    PESSIMISTIC_LOCK("비관적 락"),
+    LEDGER("인메모리 참여 횟수 원장"),
+    ATOMIC_UPDATE("조건부 원자적 차감"),
+    SHARDED("참여 횟수 분산 슬롯"),
+    TICKET("참여 티켓 선점"),
+    ;
+
+    private final String description;
+}
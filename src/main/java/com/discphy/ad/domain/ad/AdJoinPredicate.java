@@ -0,0 +1,7 @@
+package com.discphy.ad.domain.ad;
+
+@FunctionalInterface
+public interface AdJoinPredicate {
+
+    boolean test(UserJoinProfile profile);
+}
@@ -0,0 +1,20 @@
+package com.discphy.ad.domain.ad;
+
+import com.discphy.ad.exception.CoreException;
+
+public record AdJoinResult(
+    AdJoinedHistory joinedHistory,
+    CoreException failure
+) {
+    public static AdJoinResult success(AdJoinedHistory joinedHistory) {
+        return new AdJoinResult(joinedHistory, null);
+    }
+
+    public static AdJoinResult fail(CoreException failure) {
+        return new AdJoinResult(null, failure);
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.discphy.ad.domain.ad;
+
+import com.discphy.ad.domain.user.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "ad_join_ticket",
+    indexes = {
+        @Index(name = "idx_ad_join_ticket", columnList = "ad_id, claimed_at")
+    }
+)
+public class AdJoinTicket {
+
+    @Id
+    @Column(name = "ad_join_ticket_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long adId;
+    private Long userId;
+    private LocalDateTime claimedAt;
+
+    private AdJoinTicket(Long adId) {
+        this.adId = adId;
+    }
+
+    public static List<AdJoinTicket> issue(Ad ad) {
+        return IntStream.range(0, ad.getJoinCount())
+            .mapToObj(i -> new AdJoinTicket(ad.getId()))
+            .toList();
+    }
+
+    public void claim(User user, LocalDateTime claimedAt) {
+        this.userId = user.getId();
+        this.claimedAt = claimedAt;
+    }
+}
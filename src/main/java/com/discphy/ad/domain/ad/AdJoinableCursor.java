@@ -0,0 +1,17 @@
+package com.discphy.ad.domain.ad;
+
+public record AdJoinableCursor(
+    long rewardAmount,
+    long adId
+) {
+
+    private static final AdJoinableCursor FIRST = new AdJoinableCursor(Long.MAX_VALUE, 0L);
+
+    public static AdJoinableCursor first() {
+        return FIRST;
+    }
+
+    public static AdJoinableCursor after(Ad ad) {
+        return new AdJoinableCursor(ad.getRewardAmount(), ad.getId());
+    }
+}
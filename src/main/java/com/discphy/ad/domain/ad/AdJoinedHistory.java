@@ -1,5 +1,6 @@
 package com.discphy.ad.domain.ad;
 
+import com.discphy.ad.common.TsidGenerated;
 import com.discphy.ad.domain.user.User;
 import com.discphy.ad.exception.CoreException;
 import com.discphy.ad.exception.ErrorType;
@@ -16,14 +17,16 @@ import java.time.LocalDateTime;
 @Table(
     name = "ad_joined_history",
     indexes = {
-        @Index(name = "idx_ad_joined_history", columnList = "user_id, joined_at")
+        @Index(name = "idx_ad_joined_history", columnList = "user_id, joined_at, ad_joined_history_id"),
+        @Index(name = "idx_ad_joined_history_user_ad", columnList = "user_id, ad_id, joined_at"),
+        @Index(name = "idx_ad_joined_history_ad", columnList = "ad_id")
     }
 )
 public class AdJoinedHistory {
 
     @Id
     @Column(name = "ad_joined_history_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidGenerated
     private Long id;
 
     private Long userId;
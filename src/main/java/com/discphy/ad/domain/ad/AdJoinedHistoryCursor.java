@@ -0,0 +1,38 @@
+package com.discphy.ad.domain.ad;
+
+import com.discphy.ad.exception.CoreException;
+import com.discphy.ad.exception.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+public record AdJoinedHistoryCursor(
+    LocalDateTime joinedAt,
+    long historyId
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static AdJoinedHistoryCursor after(AdInfo.JoinedHistory history) {
+        return new AdJoinedHistoryCursor(history.joinedAt(), history.id());
+    }
+
+    public static AdJoinedHistoryCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            return new AdJoinedHistoryCursor(
+                LocalDateTime.parse(decoded.substring(0, index)),
+                Long.parseLong(decoded.substring(index + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() { // 클라이언트에는 형식을 드러내지 않음
+        String raw = joinedAt + DELIMITER + historyId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,11 @@
+package com.discphy.ad.domain.ad;
+
+import java.time.LocalDateTime;
+
+public record AdJoinedSummary(
+    Long userId,
+    Long adId,
+    Long joinCount,
+    LocalDateTime lastJoinedAt
+) {
+}
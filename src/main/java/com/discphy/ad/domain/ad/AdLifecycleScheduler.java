@@ -0,0 +1,165 @@
+package com.discphy.ad.domain.ad;
+
+import com.discphy.ad.common.TimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+@Slf4j
+@Component
+public class AdLifecycleScheduler {
+
+    private static final long TICK_SECONDS = 1L;
+    private static final int WHEEL_SIZE = 60; // 1초 x 60, 1분 x 60, 1시간 x 60 ... 순으로 필요한 만큼 상위 휠 생성
+    private static final List<AdStatus> NOT_ENDED = List.of(AdStatus.SCHEDULED, AdStatus.ACTIVE, AdStatus.SOLD_OUT);
+
+    private final AdRepository adRepository;
+    private final AdCatalog adCatalog;
+    private final TimingWheel<Transition> wheel;
+
+    public AdLifecycleScheduler(AdRepository adRepository, AdCatalog adCatalog) {
+        this.adRepository = adRepository;
+        this.adCatalog = adCatalog;
+        this.wheel = new TimingWheel<>(TICK_SECONDS, WHEEL_SIZE, epochSecondOf(LocalDateTime.now()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        int backfilled = adRepository.backfillStatuses(now); // 상태 컬럼 추가 이전에 등록된 광고
+        int transited = adRepository.transitStatuses(now); // 중단된 동안 지난 전이
+
+        // 재시작 시 종료되지 않은 광고의 시작/종료 전이를 광고 테이블 기준으로 다시 예약
+        wheel.reset(epochSecondOf(now));
+        adRepository.findNotEndedAds(now).forEach(ad -> register(ad, now));
+        log.info("[AdLifecycleScheduler.rebuild] 광고 상태 전이 예약 복구: backfilled={} transited={} transitions={}", backfilled, transited, wheel.size());
+    }
+
+    public void registerAfterCommit(Ad ad) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            registerCreated(ad);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                registerCreated(ad);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${ad.lifecycle.tick-interval:1000}")
+    public void advance() {
+        LocalDateTime now = LocalDateTime.now();
+        wheel.advance(epochSecondOf(now), this::transit);
+    }
+
+    @Scheduled(fixedDelayString = "${ad.lifecycle.sweep-interval:60000}")
+    public void sweep() {
+        try {
+            int transited = adRepository.transitStatuses(LocalDateTime.now()); // 다른 인스턴스에서 등록했거나 놓친 전이 보정
+            if (transited > 0) {
+                log.info("[AdLifecycleScheduler.sweep] 광고 상태 전이 보정: count={}", transited);
+            }
+        } catch (Exception e) {
+            log.error("[AdLifecycleScheduler.sweep] 광고 상태 전이 보정 실패", e);
+        }
+    }
+
+    // 원장 방식은 차감이 롤백되어도 다른 참여가 커밋한 소진 상태는 남으므로, 원장에 반영된 남은 횟수로 상태를 맞춤
+    @EventListener
+    public void soldOut(AdEvent.SoldOut event) {
+        Long adId = event.adId();
+        try {
+            adRepository.updateStatus(adId, List.of(AdStatus.ACTIVE), AdStatus.SOLD_OUT);
+            adCatalog.remove(adId);
+        } catch (Exception e) {
+            log.error("[AdLifecycleScheduler.soldOut] 광고 소진 상태 반영 실패: adId={}", adId, e);
+        }
+    }
+
+    @EventListener
+    public void reopen(AdEvent.Reopened event) {
+        Long adId = event.adId();
+        try {
+            if (adRepository.updateStatus(adId, List.of(AdStatus.SOLD_OUT), AdStatus.ACTIVE)) {
+                adRepository.findById(adId)
+                    .filter(ad -> ad.getStatus() == AdStatus.ACTIVE && !ad.isEnded(LocalDateTime.now()))
+                    .ifPresent(adCatalog::add);
+            }
+        } catch (Exception e) {
+            log.error("[AdLifecycleScheduler.reopen] 광고 소진 해제 반영 실패: adId={}", adId, e);
+        }
+    }
+
+    public void clear() {
+        wheel.reset(epochSecondOf(LocalDateTime.now()));
+    }
+
+    private void registerCreated(Ad ad) {
+        if (register(ad, LocalDateTime.now()) == AdStatus.ACTIVE) {
+            adCatalog.add(ad);
+        }
+    }
+
+    private AdStatus register(Ad ad, LocalDateTime now) {
+        AdStatus status = ad.statusAt(now);
+
+        if (status == AdStatus.SCHEDULED) {
+            schedule(new Transition(ad.getId(), AdStatus.ACTIVE), ceilEpochSecondOf(ad.getStartedAt()));
+        }
+        if (status != AdStatus.ENDED) {
+            schedule(new Transition(ad.getId(), AdStatus.ENDED), epochSecondOf(ad.getEndedAt()) + 1); // 종료 시각 이후부터 종료
+        }
+        return status;
+    }
+
+    private void schedule(Transition transition, long deadline) {
+        if (!wheel.schedule(deadline, transition)) {
+            transit(transition);
+        }
+    }
+
+    private void transit(Transition transition) {
+        Long adId = transition.adId();
+        try {
+            if (transition.status() == AdStatus.ACTIVE) {
+                if (adRepository.updateStatus(adId, List.of(AdStatus.SCHEDULED), AdStatus.ACTIVE)) { // 시작 전 소진된 광고는 제외
+                    // 예약 이후 소진되거나 변경되었을 수 있으므로 다시 조회한 최신 광고를 노출 중일 때만 추가
+                    adRepository.findById(adId)
+                        .filter(ad -> ad.getStatus() == AdStatus.ACTIVE)
+                        .ifPresent(adCatalog::add);
+                }
+            } else if (transition.status() == AdStatus.ENDED) {
+                adRepository.updateStatus(adId, NOT_ENDED, AdStatus.ENDED);
+                adCatalog.remove(adId);
+            }
+            log.debug("[AdLifecycleScheduler.transit] 광고 상태 전이: adId={} status={}", adId, transition.status());
+        } catch (Exception e) {
+            log.error("[AdLifecycleScheduler.transit] 광고 상태 전이 실패, 다음 보정 시 반영: adId={} status={}", adId, transition.status(), e);
+        }
+    }
+
+    private static long epochSecondOf(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC); // 시각 간 차이만 사용
+    }
+
+    private static long ceilEpochSecondOf(LocalDateTime dateTime) {
+        return epochSecondOf(dateTime) + (dateTime.getNano() > 0 ? 1 : 0);
+    }
+
+    private record Transition(
+        Long adId,
+        AdStatus status
+    ) {
+    }
+}
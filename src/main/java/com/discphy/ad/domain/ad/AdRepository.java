@@ -1,8 +1,11 @@
 package com.discphy.ad.domain.ad;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface AdRepository {
 
@@ -12,11 +15,81 @@ public interface AdRepository {
 
     List<Ad> findJoinableAds(LocalDateTime dateTime);
 
+    List<Ad> findJoinableAds(LocalDateTime dateTime, AdJoinableCursor cursor, int size);
+
+    List<Ad> findNotEndedAds(LocalDateTime dateTime);
+
+    Optional<Ad> findById(Long id);
+
     Optional<Ad> findByIdWithLock(Long id);
 
+    void updateJoinCount(Long id, int joinCount);
+
+    boolean decreaseJoinCount(Long id);
+
+    int findJoinCount(Long id);
+
+    boolean updateStatus(Long id, Collection<AdStatus> from, AdStatus status);
+
+    int backfillStatuses(LocalDateTime dateTime);
+
+    int transitStatuses(LocalDateTime dateTime);
+
     AdJoinedHistory saveJoinedUser(AdJoinedHistory joinedUser);
 
-    List<AdJoinedHistory> findJoinedHistories(AdCommand.JoinedHistoriesQuery command);
+    List<AdJoinedHistory> saveJoinedUsers(List<AdJoinedHistory> joinedUsers);
+
+    AdEventOutbox saveOutbox(AdEventOutbox outbox);
+
+    List<AdEventOutbox> saveOutboxes(List<AdEventOutbox> outboxes);
+
+    List<AdEventOutbox> findClaimableOutboxes(LocalDateTime dateTime, int limit);
+
+    int updateOutboxesSent(Collection<Long> ids, LocalDateTime sentAt);
+
+    int updateOutboxesDead(Collection<Long> ids);
+
+    int replayDeadOutboxes(LocalDateTime dateTime, int limit);
+
+    int deleteSentOutboxes(LocalDateTime sentBefore, int limit);
+
+    List<AdInfo.JoinedHistory> findJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery command);
+
+    void streamJoinedHistories(LocalDateTime from, LocalDateTime to, Consumer<AdInfo.JoinedHistory> consumer);
+
+    UserJoinProfile findJoinProfile(Long userId);
+
+    Map<Long, UserJoinProfile> findJoinProfiles(List<Long> userIds);
+
+    long countJoinedHistories(Long adId);
+
+    List<Ad> findJoinableAdsBySlots(LocalDateTime dateTime);
+
+    List<Ad> findJoinableAdsBySlots(LocalDateTime dateTime, AdJoinableCursor cursor, int size);
+
+    List<AdInventorySlot> saveInventorySlots(List<AdInventorySlot> slots);
+
+    List<AdInventorySlot> findInventorySlotsWithLock(Long adId);
+
+    boolean existsInventorySlots(Long adId);
+
+    boolean decreaseInventorySlot(Long adId, int slotNo);
+
+    int sumInventorySlots(Long adId);
+
+    List<Ad> findJoinableAdsByTickets(LocalDateTime dateTime);
+
+    List<Ad> findJoinableAdsByTickets(LocalDateTime dateTime, AdJoinableCursor cursor, int size);
+
+    List<AdJoinTicket> saveTickets(List<AdJoinTicket> tickets);
+
+    List<AdJoinTicket> findTicketsWithLock(Long adId);
+
+    Optional<AdJoinTicket> findClaimableTicket(Long adId);
+
+    Optional<AdJoinTicket> findClaimableTicketWaiting(Long adId);
+
+    boolean existsTickets(Long adId);
 
-    List<AdJoinedHistory> findJoinedHistories(Long userId);
+    int countClaimableTickets(Long adId);
 }
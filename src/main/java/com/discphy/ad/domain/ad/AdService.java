@@ -7,15 +7,27 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class AdService {
 
+    private static final int JOINABLE_SCAN_CHUNK_SIZE = 20;
+
     private final AdRepository adRepository;
     private final AdJoinConditionStrategy adJoinConditionStrategy;
+    private final AdJoinInventoryStrategy adJoinInventoryStrategy;
+    private final AdSoldOutRegistry adSoldOutRegistry;
+    private final AdCatalog adCatalog;
+    private final AdLifecycleScheduler adLifecycleScheduler;
 
     @Transactional
     public Ad create(AdCommand.Create command) {
@@ -27,37 +39,190 @@ public class AdService {
             throw new CoreException(ErrorType.BAD_REQUEST, "광고 참여 조건이 유효하지 않습니다.");
         }
 
-        Ad ad = Ad.create(command);
-        return adRepository.save(ad);
+        Ad ad = adRepository.save(Ad.create(command));
+        adLifecycleScheduler.registerAfterCommit(ad);
+        return ad;
     }
 
     @Transactional
     public AdJoinedHistory join(Long adId, User user) {
-        Ad ad = adRepository.findByIdWithLock(adId)
+        AdJoinInventory inventory = adJoinInventoryStrategy.get();
+        Ad ad = inventory.findAd(adId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 광고입니다."));
 
-        List<AdJoinedHistory> histories = adRepository.findJoinedHistories(user.getId());
-        if (!adJoinConditionStrategy.isSatisfied(ad, histories)) {
+        LocalDateTime now = LocalDateTime.now();
+        adSoldOutRegistry.watch(ad);
+        if (ad.isEnded(now)) {
+            throw new CoreException(ErrorType.CONFLICT, "광고 노출 기간이 종료되었습니다.");
+        }
+
+        UserJoinProfile profile = adRepository.findJoinProfile(user.getId());
+        if (!adJoinConditionStrategy.isSatisfied(ad, profile)) {
             throw new CoreException(ErrorType.CONFLICT, "광고 참여 조건을 만족하지 않습니다.");
         }
 
-        ad.join();
+        // 차감 실패는 진행 중인 참여가 롤백되면 다시 참여 가능해질 수 있으므로 소진으로 기록하지 않음
+        int remaining = inventory.decrease(ad, user);
+        if (remaining <= 0) {
+            if (ad.getStatus() != AdStatus.SOLD_OUT) { // 엔티티 차감 방식은 join() 에서 이미 변경
+                adRepository.updateStatus(ad.getId(), List.of(AdStatus.ACTIVE), AdStatus.SOLD_OUT);
+            }
+            adSoldOutRegistry.markSoldOutAfterCommit(ad.getId(), () -> inventory.isSoldOut(ad.getId()));
+            adCatalog.removeAfterCommit(ad.getId());
+        }
 
-        AdJoinedHistory joinedUser = AdJoinedHistory.create(ad, user, LocalDateTime.now());
+        AdJoinedHistory joinedUser = AdJoinedHistory.create(ad, user, now);
+        adRepository.saveOutbox(AdEventOutbox.joined(joinedUser)); // 참여와 같은 트랜잭션에 기록하여 커밋된 참여는 적립 요청이 유실되지 않음
         return adRepository.saveJoinedUser(joinedUser);
     }
 
+    // 소진을 확인한 참여는 롤백되므로, 커밋된 재고 기준으로 확정된 소진을 별도 트랜잭션에서 반영
+    @Transactional
+    public void settleSoldOut(Long adId) {
+        adRepository.updateStatus(adId, List.of(AdStatus.ACTIVE), AdStatus.SOLD_OUT);
+        adCatalog.removeAfterCommit(adId);
+    }
+
+    @Transactional
+    public List<AdJoinResult> joinAll(Long adId, List<User> users) {
+        if (adJoinInventoryStrategy.get().mode() != AdJoinMode.PESSIMISTIC_LOCK) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "일괄 참여는 PESSIMISTIC_LOCK 방식에서만 사용할 수 있습니다.");
+        }
+
+        Ad ad = adRepository.findByIdWithLock(adId)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 광고입니다."));
+
+        LocalDateTime now = LocalDateTime.now();
+        adSoldOutRegistry.watch(ad);
+        if (ad.isEnded(now)) {
+            throw new CoreException(ErrorType.CONFLICT, "광고 노출 기간이 종료되었습니다.");
+        }
+
+        Map<Long, UserJoinProfile> profiles = new HashMap<>(adRepository.findJoinProfiles(
+            users.stream().map(User::getId).distinct().toList()
+        ));
+
+        List<AdJoinResult> results = new ArrayList<>();
+        List<AdJoinedHistory> joinedUsers = new ArrayList<>();
+        for (User user : users) {
+            UserJoinProfile profile = profiles.getOrDefault(user.getId(), UserJoinProfile.empty());
+            if (!adJoinConditionStrategy.isSatisfied(ad, profile)) {
+                results.add(AdJoinResult.fail(new CoreException(ErrorType.CONFLICT, "광고 참여 조건을 만족하지 않습니다.")));
+                continue;
+            }
+
+            if (ad.getJoinCount() <= 0) {
+                results.add(AdJoinResult.fail(new CoreException(ErrorType.CONFLICT, "참여가 불가능합니다.")));
+                continue;
+            }
+
+            ad.join();
+
+            AdJoinedHistory joinedUser = AdJoinedHistory.create(ad, user, now);
+            profiles.put(user.getId(), profile.join(ad.getId(), now)); // 같은 배치 내 동일 사용자의 다음 요청에 반영
+            joinedUsers.add(joinedUser);
+            results.add(AdJoinResult.success(joinedUser));
+        }
+
+        if (ad.getJoinCount() <= 0) {
+            adSoldOutRegistry.markSoldOutAfterCommit(ad.getId());
+            adCatalog.removeAfterCommit(ad.getId());
+        }
+
+        adRepository.saveJoinedUsers(joinedUsers);
+        adRepository.saveOutboxes(joinedUsers.stream().map(AdEventOutbox::joined).toList());
+        return results;
+    }
+
     @Transactional(readOnly = true)
     public List<Ad> getJoinable(Long userId, LocalDateTime dateTime) {
-        List<AdJoinedHistory> histories = adRepository.findJoinedHistories(userId);
+        return getJoinable(userId, dateTime, Integer.MAX_VALUE);
+    }
 
-        return adRepository.findJoinableAds(dateTime).stream()
-            .filter(ad -> adJoinConditionStrategy.isSatisfied(ad, histories))
-            .toList();
+    @Transactional(readOnly = true)
+    public List<Ad> getJoinable(Long userId, LocalDateTime dateTime, int limit) {
+        return getJoinable(adRepository.findJoinProfile(userId), dateTime, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public UserJoinProfile getJoinProfile(Long userId) {
+        return adRepository.findJoinProfile(userId);
+    }
+
+    public Optional<AdEligibilitySignature> findEligibilitySignature(UserJoinProfile profile) {
+        return adCatalog.find().flatMap(snapshot -> snapshot.signatureOf(profile));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Ad> getJoinable(UserJoinProfile profile, LocalDateTime dateTime, int limit) {
+        return adCatalog.find()
+            .map(snapshot -> snapshot.findEligible(profile, dateTime, limit))
+            .orElseGet(() -> scanJoinable(profile, dateTime, limit));
+    }
+
+    private List<Ad> scanJoinable(UserJoinProfile profile, LocalDateTime dateTime, int limit) {
+        AdJoinInventory inventory = adJoinInventoryStrategy.get();
+        List<Ad> joinable = new ArrayList<>();
+
+        // 적립 액수 순으로 나눠 읽으며 참여 조건을 평가하고, limit 개를 찾으면 남은 광고는 읽지 않음
+        AdJoinableCursor cursor = AdJoinableCursor.first();
+        while (joinable.size() < limit) {
+            List<Ad> chunk = inventory.findJoinableAds(dateTime, cursor, JOINABLE_SCAN_CHUNK_SIZE);
+            for (Ad ad : chunk) {
+                if (adSoldOutRegistry.isClosed(ad.getId(), dateTime) || !adJoinConditionStrategy.isSatisfied(ad, profile)) {
+                    continue;
+                }
+
+                joinable.add(ad);
+                if (joinable.size() >= limit) {
+                    return joinable;
+                }
+            }
+
+            if (chunk.size() < JOINABLE_SCAN_CHUNK_SIZE) {
+                break;
+            }
+            cursor = AdJoinableCursor.after(chunk.getLast());
+        }
+
+        return joinable;
+    }
+
+    @Transactional(readOnly = true)
+    public List<AdInfo.JoinedHistory> getJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery command) {
+        return adRepository.findJoinedHistoryInfos(command);
+    }
+
+    @Transactional
+    public List<AdEventOutbox> claimOutboxes(LocalDateTime dateTime, Duration lease, int limit) {
+        List<AdEventOutbox> outboxes = adRepository.findClaimableOutboxes(dateTime, limit);
+        outboxes.forEach(outbox -> outbox.claim(dateTime.plus(lease))); // 커밋하면 잠금은 풀리고 점유 기한 동안 다른 릴레이가 가져가지 않음
+        return outboxes;
+    }
+
+    @Transactional
+    public void markOutboxesSent(List<Long> ids, LocalDateTime dateTime) {
+        adRepository.updateOutboxesSent(ids, dateTime);
+    }
+
+    @Transactional
+    public void markOutboxesDead(List<Long> ids) {
+        adRepository.updateOutboxesDead(ids);
+    }
+
+    @Transactional
+    public int replayDeadOutboxes(LocalDateTime dateTime, int limit) {
+        return adRepository.replayDeadOutboxes(dateTime, limit);
+    }
+
+    @Transactional
+    public int purgeSentOutboxes(LocalDateTime sentBefore, int limit) {
+        return adRepository.deleteSentOutboxes(sentBefore, limit);
     }
 
     @Transactional(readOnly = true)
-    public List<AdJoinedHistory> getJoinedHistories(AdCommand.JoinedHistoriesQuery command) {
-        return adRepository.findJoinedHistories(command);
+    public void exportJoinedHistories(AdCommand.ExportJoinedHistories command, Consumer<AdInfo.JoinedHistory> consumer) {
+        // 읽기 전용 트랜잭션으로 복제본에서 스트리밍하여 내보내는 동안 주 DB 커넥션을 점유하지 않음
+        adRepository.streamJoinedHistories(command.from(), command.to(), consumer);
     }
 }
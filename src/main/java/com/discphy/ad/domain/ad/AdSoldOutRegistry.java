@@ -0,0 +1,65 @@
+package com.discphy.ad.domain.ad;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+@Component
+public class AdSoldOutRegistry {
+
+    private static final LocalDateTime SOLD_OUT = LocalDateTime.MIN;
+
+    // 광고별 참여 마감 시각, 소진된 광고는 SOLD_OUT 으로 기록해 조회 한 번으로 판별
+    private final Map<Long, LocalDateTime> closedAts = new ConcurrentHashMap<>();
+
+    public boolean isClosed(Long adId, LocalDateTime dateTime) {
+        LocalDateTime closedAt = closedAts.get(adId);
+        return closedAt != null && closedAt.isBefore(dateTime);
+    }
+
+    public boolean isSoldOut(Long adId) {
+        return SOLD_OUT.equals(closedAts.get(adId));
+    }
+
+    public void watch(Ad ad) {
+        closedAts.putIfAbsent(ad.getId(), ad.getEndedAt());
+    }
+
+    public void markSoldOut(Long adId) {
+        closedAts.put(adId, SOLD_OUT);
+    }
+
+    // 마지막 참여 가능 횟수를 가져간 참여가 롤백되어 다시 남으면 소진 기록을 해제
+    public void reopen(Long adId) {
+        closedAts.computeIfPresent(adId, (id, closedAt) -> SOLD_OUT.equals(closedAt) ? null : closedAt);
+    }
+
+    public void clear() {
+        closedAts.clear();
+    }
+
+    public void markSoldOutAfterCommit(Long adId) {
+        markSoldOutAfterCommit(adId, () -> true);
+    }
+
+    public void markSoldOutAfterCommit(Long adId, BooleanSupplier soldOut) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markSoldOut(adId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (soldOut.getAsBoolean()) {
+                    markSoldOut(adId);
+                }
+            }
+        });
+    }
+}
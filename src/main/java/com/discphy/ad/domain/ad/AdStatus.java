@@ -0,0 +1,15 @@
+package com.discphy.ad.domain.ad;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum AdStatus {
+
+    SCHEDULED("노출 예정"),
+    ACTIVE("노출 중"),
+    SOLD_OUT("참여 마감"),
+    ENDED("노출 종료"),
+    ;
+
+    private final String description;
+}
@@ -0,0 +1,100 @@
+package com.discphy.ad.domain.ad;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.LongStream;
+
+public class UserJoinProfile {
+
+    private static final UserJoinProfile EMPTY = new UserJoinProfile(0, new long[0], null);
+
+    private final long joinCount;
+    private final long[] joinedAdIds; // 오름차순 정렬, 중복 없음
+    private final LocalDateTime lastJoinedAt;
+
+    private UserJoinProfile(long joinCount, long[] joinedAdIds, LocalDateTime lastJoinedAt) {
+        this.joinCount = joinCount;
+        this.joinedAdIds = joinedAdIds;
+        this.lastJoinedAt = lastJoinedAt;
+    }
+
+    public static UserJoinProfile empty() {
+        return EMPTY;
+    }
+
+    public static UserJoinProfile of(List<AdJoinedSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return EMPTY;
+        }
+
+        return new UserJoinProfile(
+            summaries.stream().mapToLong(AdJoinedSummary::joinCount).sum(),
+            summaries.stream().mapToLong(AdJoinedSummary::adId).distinct().sorted().toArray(),
+            summaries.stream().map(AdJoinedSummary::lastJoinedAt).max(Comparator.naturalOrder()).orElse(null)
+        );
+    }
+
+    public static UserJoinProfile from(List<AdJoinedHistory> histories) {
+        if (histories.isEmpty()) {
+            return EMPTY;
+        }
+
+        return new UserJoinProfile(
+            histories.size(),
+            histories.stream().mapToLong(AdJoinedHistory::getAdId).distinct().sorted().toArray(),
+            histories.stream().map(AdJoinedHistory::getJoinedAt).filter(Objects::nonNull).max(Comparator.naturalOrder()).orElse(null)
+        );
+    }
+
+    public UserJoinProfile join(Long adId, LocalDateTime joinedAt) {
+        long[] adIds = joinedAdIds;
+        int index = Arrays.binarySearch(joinedAdIds, adId);
+        if (index < 0) {
+            int insertion = -index - 1;
+            adIds = new long[joinedAdIds.length + 1];
+            System.arraycopy(joinedAdIds, 0, adIds, 0, insertion);
+            adIds[insertion] = adId;
+            System.arraycopy(joinedAdIds, insertion, adIds, insertion + 1, joinedAdIds.length - insertion);
+        }
+
+        LocalDateTime latest = lastJoinedAt == null || joinedAt.isAfter(lastJoinedAt) ? joinedAt : lastJoinedAt;
+        return new UserJoinProfile(joinCount + 1, adIds, latest);
+    }
+
+    public boolean isEmpty() {
+        return joinCount == 0;
+    }
+
+    public boolean hasJoined(Long adId) {
+        return Arrays.binarySearch(joinedAdIds, adId) >= 0;
+    }
+
+    public LongStream joinedAdIds() {
+        return Arrays.stream(joinedAdIds);
+    }
+
+    public long getJoinCount() {
+        return joinCount;
+    }
+
+    public LocalDateTime getLastJoinedAt() {
+        return lastJoinedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof UserJoinProfile that)) return false;
+        return joinCount == that.joinCount
+            && Arrays.equals(joinedAdIds, that.joinedAdIds)
+            && Objects.equals(lastJoinedAt, that.lastJoinedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(joinCount, Arrays.hashCode(joinedAdIds), lastJoinedAt);
+    }
+}
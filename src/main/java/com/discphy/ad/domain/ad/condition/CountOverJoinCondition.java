@@ -3,12 +3,12 @@ package com.discphy.ad.domain.ad.condition;
 import com.discphy.ad.common.DataSerializer;
 import com.discphy.ad.domain.ad.AdJoinConditionType;
 import com.discphy.ad.domain.ad.AdJoinCondition;
-import com.discphy.ad.domain.ad.AdJoinedHistory;
+import com.discphy.ad.domain.ad.AdJoinPredicate;
+import com.discphy.ad.domain.ad.UserJoinProfile;
 import com.discphy.ad.exception.CoreException;
 import com.discphy.ad.exception.ErrorType;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -27,10 +27,9 @@ public class CountOverJoinCondition implements AdJoinCondition {
     }
 
     @Override
-    public boolean isSatisfied(List<AdJoinedHistory> histories, String context) {
+    public AdJoinPredicate compile(String context) {
         return deserialize(context)
             .filter(CountOver::validate)
-            .map(c -> support(histories, c))
             .orElseThrow(() -> new CoreException(ErrorType.INTERNAL_ERROR, "광고 참여 조건이 올바르지 않습니다."));
     }
 
@@ -38,15 +37,16 @@ public class CountOverJoinCondition implements AdJoinCondition {
         return Optional.ofNullable(DataSerializer.deserialize(context, CountOver.class));
     }
 
-    private boolean support(List<AdJoinedHistory> histories, CountOver condition) {
-        return histories.size() >= condition.joinCount;
-    }
-
-    record CountOver(
+    public record CountOver(
         int joinCount
-    ) {
+    ) implements AdJoinPredicate {
         public boolean validate() {
             return joinCount > 0;
         }
+
+        @Override
+        public boolean test(UserJoinProfile profile) {
+            return profile.getJoinCount() >= joinCount;
+        }
     }
-}
\ No newline at end of file
+}
@@ -2,11 +2,9 @@ package com.discphy.ad.domain.ad.condition;
 
 import com.discphy.ad.domain.ad.AdJoinConditionType;
 import com.discphy.ad.domain.ad.AdJoinConditionWithoutContext;
-import com.discphy.ad.domain.ad.AdJoinedHistory;
+import com.discphy.ad.domain.ad.UserJoinProfile;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 @Component
 public class FirstJoinCondition implements AdJoinConditionWithoutContext {
 
@@ -16,7 +14,7 @@ public class FirstJoinCondition implements AdJoinConditionWithoutContext {
     }
 
     @Override
-    public boolean isSatisfied(List<AdJoinedHistory> histories) {
-        return histories.isEmpty();
+    public boolean isSatisfied(UserJoinProfile profile) {
+        return profile.isEmpty();
     }
 }
\ No newline at end of file
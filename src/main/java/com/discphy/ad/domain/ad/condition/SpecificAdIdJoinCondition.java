@@ -3,12 +3,12 @@ package com.discphy.ad.domain.ad.condition;
 import com.discphy.ad.common.DataSerializer;
 import com.discphy.ad.domain.ad.AdJoinConditionType;
 import com.discphy.ad.domain.ad.AdJoinCondition;
-import com.discphy.ad.domain.ad.AdJoinedHistory;
+import com.discphy.ad.domain.ad.AdJoinPredicate;
+import com.discphy.ad.domain.ad.UserJoinProfile;
 import com.discphy.ad.exception.CoreException;
 import com.discphy.ad.exception.ErrorType;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.Optional;
 
 
@@ -28,10 +28,9 @@ public class SpecificAdIdJoinCondition implements AdJoinCondition {
     }
 
     @Override
-    public boolean isSatisfied(List<AdJoinedHistory> histories, String context) {
+    public AdJoinPredicate compile(String context) {
         return deserialize(context)
             .filter(SpecificAdId::validate)
-            .map(c -> support(histories, c))
             .orElseThrow(() -> new CoreException(ErrorType.INTERNAL_ERROR, "광고 참여 조건이 올바르지 않습니다."));
     }
 
@@ -39,16 +38,16 @@ public class SpecificAdIdJoinCondition implements AdJoinCondition {
         return Optional.ofNullable(DataSerializer.deserialize(context, SpecificAdId.class));
     }
 
-    private boolean support(List<AdJoinedHistory> histories, SpecificAdId condition) {
-        return histories.stream()
-            .anyMatch(h -> h.equalsAd(condition.adId));
-    }
-
-    record SpecificAdId(
+    public record SpecificAdId(
         Long adId
-    ) {
+    ) implements AdJoinPredicate {
         public boolean validate() {
             return adId != null;
         }
+
+        @Override
+        public boolean test(UserJoinProfile profile) {
+            return profile.hasJoined(adId);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,150 @@
+package com.discphy.ad.domain.ad.inventory;
+
+import com.discphy.ad.domain.ad.Ad;
+import com.discphy.ad.domain.ad.AdEvent;
+import com.discphy.ad.domain.ad.AdRepository;
+import com.discphy.ad.domain.ad.AdSoldOutRegistry;
+import com.discphy.ad.exception.CoreException;
+import com.discphy.ad.exception.ErrorType;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdJoinLedger {
+
+    private final AdRepository adRepository;
+    private final AdSoldOutRegistry adSoldOutRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    public int decrease(Ad ad) {
+        Counter counter = counterOf(ad);
+
+        long remaining = counter.decrease();
+        if (remaining < 0) {
+            throw new CoreException(ErrorType.CONFLICT, "참여가 불가능합니다.");
+        }
+
+        restoreOnRollback(ad.getId(), counter);
+        return (int) remaining;
+    }
+
+    public long remaining(Long adId) {
+        Counter counter = counters.get(adId);
+        return counter != null ? counter.remaining.get() : -1;
+    }
+
+    @Scheduled(fixedDelayString = "${ad.join.ledger.flush-interval:1000}")
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        counters.forEach((adId, counter) -> {
+            long remaining = counter.remaining.get();
+            boolean reopened = counter.reopened;
+            try {
+                if (remaining != counter.flushed) {
+                    adRepository.updateJoinCount(adId, (int) remaining);
+                    counter.flushed = remaining;
+                    if (remaining == 0) {
+                        eventPublisher.publishEvent(new AdEvent.SoldOut(adId)); // 소진 해제 직후 다시 소진된 광고도 상태를 맞춤
+                    }
+                }
+                if (reopened && remaining > 0) {
+                    counter.reopened = false;
+                    eventPublisher.publishEvent(new AdEvent.Reopened(adId)); // 다른 참여가 커밋한 소진 상태와 카탈로그 제거를 되돌림
+                }
+            } catch (Exception e) {
+                log.error("[AdJoinLedger.flush] 참여 가능 횟수 반영 실패: adId={} remaining={}", adId, remaining, e);
+                return;
+            }
+
+            if (counter.isSettled(now)) {
+                counters.remove(adId, counter); // 더 차감될 일이 없는 광고는 원장에서 제거
+            }
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private Counter counterOf(Ad ad) {
+        Counter counter = counters.get(ad.getId());
+        if (counter != null) {
+            return counter;
+        }
+
+        // 재시작 이후 처음 참여 시, 아직 반영되지 않은 차감분을 참여 이력으로 보정
+        int reconciled = ad.reconcileJoinCount(adRepository.countJoinedHistories(ad.getId()));
+        return counters.computeIfAbsent(ad.getId(), id -> new Counter(reconciled, ad.getJoinCount(), ad.getEndedAt()));
+    }
+
+    private void restoreOnRollback(Long adId, Counter counter) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        counter.pending.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED && counter.remaining.incrementAndGet() == 1) {
+                    adSoldOutRegistry.reopen(adId);
+                    counter.reopened = true; // 상태와 카탈로그는 롤백된 트랜잭션의 커넥션을 반납한 뒤 반영 시 되돌림
+                }
+                counter.pending.decrementAndGet();
+            }
+        });
+    }
+
+    private static class Counter {
+
+        private final AtomicLong remaining;
+        private final AtomicInteger pending = new AtomicInteger(); // 차감 후 커밋 또는 롤백을 기다리는 참여 수
+        private final LocalDateTime endedAt;
+        private volatile long flushed; // flush 스레드에서만 갱신
+        private volatile boolean reopened;
+
+        private Counter(long remaining, long flushed, LocalDateTime endedAt) {
+            this.remaining = new AtomicLong(remaining);
+            this.flushed = flushed;
+            this.endedAt = endedAt;
+        }
+
+        // 롤백으로 되돌려질 차감 없이 모두 반영된 상태에서, 소진되었거나 종료된 광고
+        private boolean isSettled(LocalDateTime dateTime) {
+            if (pending.get() > 0 || reopened) {
+                return false;
+            }
+
+            long current = remaining.get();
+            return current == flushed && (current == 0 || endedAt.isBefore(dateTime));
+        }
+
+        private long decrease() {
+            long current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return -1;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+
+            return current - 1;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.discphy.ad.domain.ad.inventory;
+
+import com.discphy.ad.domain.ad.Ad;
+import com.discphy.ad.domain.ad.AdJoinInventory;
+import com.discphy.ad.domain.ad.AdJoinableCursor;
+import com.discphy.ad.domain.ad.AdJoinMode;
+import com.discphy.ad.domain.ad.AdRepository;
+import com.discphy.ad.domain.user.User;
+import com.discphy.ad.exception.CoreException;
+import com.discphy.ad.exception.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class AtomicUpdateInventory implements AdJoinInventory {
+
+    private final AdRepository adRepository;
+
+    @Override
+    public AdJoinMode mode() {
+        return AdJoinMode.ATOMIC_UPDATE;
+    }
+
+    @Override
+    public Optional<Ad> findAd(Long adId) {
+        return adRepository.findById(adId); // 참여 조건 확인 동안 행 락을 잡지 않음
+    }
+
+    @Override
+    public List<Ad> findJoinableAds(LocalDateTime dateTime) {
+        return adRepository.findJoinableAds(dateTime);
+    }
+
+    @Override
+    public List<Ad> findJoinableAds(LocalDateTime dateTime, AdJoinableCursor cursor, int size) {
+        return adRepository.findJoinableAds(dateTime, cursor, size);
+    }
+
+    @Override
+    public int decrease(Ad ad, User user) {
+        if (!adRepository.decreaseJoinCount(ad.getId())) {
+            throw new CoreException(ErrorType.CONFLICT, "참여가 불가능합니다.");
+        }
+
+        return adRepository.findJoinCount(ad.getId()); // UPDATE 로 이미 행 락을 보유한 상태
+    }
+}
@@ -0,0 +1,54 @@
+package com.discphy.ad.domain.ad.inventory;
+
+import com.discphy.ad.domain.ad.Ad;
+import com.discphy.ad.domain.ad.AdJoinInventory;
+import com.discphy.ad.domain.ad.AdJoinableCursor;
+import com.discphy.ad.domain.ad.AdJoinMode;
+import com.discphy.ad.domain.ad.AdRepository;
+import com.discphy.ad.domain.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class LedgerInventory implements AdJoinInventory {
+
+    private final AdRepository adRepository;
+    private final AdJoinLedger adJoinLedger;
+
+    @Override
+    public AdJoinMode mode() {
+        return AdJoinMode.LEDGER;
+    }
+
+    @Override
+    public Optional<Ad> findAd(Long adId) {
+        return adRepository.findById(adId); // 행 락 없이 조회, 차감은 원장에서 처리
+    }
+
+    @Override
+    public boolean isSoldOut(Long adId) {
+        return adJoinLedger.remaining(adId) == 0; // 먼저 차감한 참여가 롤백되면 원장이 다시 늘어남
+    }
+
+    @Override
+    public List<Ad> findJoinableAds(LocalDateTime dateTime) {
+        return adRepository.findJoinableAds(dateTime).stream()
+            .filter(ad -> adJoinLedger.remaining(ad.getId()) != 0) // 아직 반영되지 않은 소진 광고 제외
+            .toList();
+    }
+
+    @Override
+    public List<Ad> findJoinableAds(LocalDateTime dateTime, AdJoinableCursor cursor, int size) {
+        return adRepository.findJoinableAds(dateTime, cursor, size); // 원장에서만 소진된 광고는 조회하는 쪽에서 소진 여부로 제외
+    }
+
+    @Override
+    public int decrease(Ad ad, User user) {
+        return adJoinLedger.decrease(ad);
+    }
+}
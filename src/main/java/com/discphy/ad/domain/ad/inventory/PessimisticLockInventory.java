@@ -0,0 +1,47 @@
+package com.discphy.ad.domain.ad.inventory;
+
+import com.discphy.ad.domain.ad.Ad;
+import com.discphy.ad.domain.ad.AdJoinInventory;
+import com.discphy.ad.domain.ad.AdJoinableCursor;
+import com.discphy.ad.domain.ad.AdJoinMode;
+import com.discphy.ad.domain.ad.AdRepository;
+import com.discphy.ad.domain.user.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class PessimisticLockInventory implements AdJoinInventory {
+
+    private final AdRepository adRepository;
+
+    @Override
+    public AdJoinMode mode() {
+        return AdJoinMode.PESSIMISTIC_LOCK;
+    }
+
+    @Override
+    public Optional<Ad> findAd(Long adId) {
+        return adRepository.findByIdWithLock(adId);
+    }
+
+    @Override
+    public List<Ad> findJoinableAds(LocalDateTime dateTime) {
+        return adRepository.findJoinableAds(dateTime);
+    }
+
+    @Override
+    public List<Ad> findJoinableAds(LocalDateTime dateTime, AdJoinableCursor cursor, int size) {
+        return adRepository.findJoinableAds(dateTime, cursor, size);
+    }
+
+    @Override
+    public int decrease(Ad ad, User user) {
+        ad.join();
+        return ad.getJoinCount();
+    }
+}
@@ -0,0 +1,81 @@
+package com.discphy.ad.domain.ad.inventory;
+
+import com.discphy.ad.domain.ad.*;
+import com.discphy.ad.domain.user.User;
+import com.discphy.ad.exception.CoreException;
+import com.discphy.ad.exception.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class ShardedInventory implements AdJoinInventory {
+
+    private final AdRepository adRepository;
+    private final AdSoldOutRegistry adSoldOutRegistry;
+
+    @Override
+    public AdJoinMode mode() {
+        return AdJoinMode.SHARDED;
+    }
+
+    @Override
+    public Optional<Ad> findAd(Long adId) {
+        return adRepository.findById(adId); // 광고 행 대신 슬롯 행 단위로 락 경합
+    }
+
+    @Override
+    public List<Ad> findJoinableAds(LocalDateTime dateTime) {
+        return adRepository.findJoinableAdsBySlots(dateTime);
+    }
+
+    @Override
+    public List<Ad> findJoinableAds(LocalDateTime dateTime, AdJoinableCursor cursor, int size) {
+        return adRepository.findJoinableAdsBySlots(dateTime, cursor, size);
+    }
+
+    @Override
+    public int decrease(Ad ad, User user) {
+        if (decreaseAnySlot(ad, user)) {
+            return adRepository.sumInventorySlots(ad.getId());
+        }
+
+        if (!adRepository.existsInventorySlots(ad.getId())) {
+            prepareSlots(ad);
+            if (decreaseAnySlot(ad, user)) {
+                return adRepository.sumInventorySlots(ad.getId());
+            }
+        }
+
+        // 조건부 차감은 잠금이 풀리기를 기다려 커밋된 남은 횟수로 다시 판단하므로, 모든 슬롯이 실패하면 이 참여가 롤백되더라도 소진은 확정
+        adSoldOutRegistry.markSoldOut(ad.getId());
+        throw new CoreException(ErrorType.CONFLICT, "참여가 불가능합니다.");
+    }
+
+    private boolean decreaseAnySlot(Ad ad, User user) {
+        int slotCount = ad.getInventorySlotCount();
+        int start = Math.floorMod(Long.hashCode(user.getId()), slotCount); // 사용자별 시작 슬롯을 달리해 경합 분산
+
+        for (int i = 0; i < slotCount; i++) {
+            if (adRepository.decreaseInventorySlot(ad.getId(), (start + i) % slotCount)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void prepareSlots(Ad ad) {
+        // 슬롯이 없는 광고는 광고 행 락을 잡고 한 번만 남은 참여 가능 횟수를 슬롯으로 분배
+        Ad locked = adRepository.findByIdWithLock(ad.getId())
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 광고입니다."));
+
+        if (adRepository.findInventorySlotsWithLock(locked.getId()).isEmpty()) {
+            adRepository.saveInventorySlots(AdInventorySlot.split(locked));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.discphy.ad.domain.ad.inventory;
+
+import com.discphy.ad.domain.ad.*;
+import com.discphy.ad.domain.user.User;
+import com.discphy.ad.exception.CoreException;
+import com.discphy.ad.exception.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class TicketInventory implements AdJoinInventory {
+
+    private final AdRepository adRepository;
+    private final AdSoldOutRegistry adSoldOutRegistry;
+
+    @Override
+    public AdJoinMode mode() {
+        return AdJoinMode.TICKET;
+    }
+
+    @Override
+    public Optional<Ad> findAd(Long adId) {
+        return adRepository.findById(adId); // 광고 행 대신 티켓 행 단위로 락 경합
+    }
+
+    @Override
+    public List<Ad> findJoinableAds(LocalDateTime dateTime) {
+        return adRepository.findJoinableAdsByTickets(dateTime);
+    }
+
+    @Override
+    public List<Ad> findJoinableAds(LocalDateTime dateTime, AdJoinableCursor cursor, int size) {
+        return adRepository.findJoinableAdsByTickets(dateTime, cursor, size);
+    }
+
+    @Override
+    public int decrease(Ad ad, User user) {
+        Optional<AdJoinTicket> ticket = adRepository.findClaimableTicket(ad.getId()); // 다른 참여자가 선점한 티켓은 건너뜀
+        if (ticket.isEmpty() && !adRepository.existsTickets(ad.getId())) {
+            issueTickets(ad);
+            ticket = adRepository.findClaimableTicket(ad.getId());
+        }
+        if (ticket.isEmpty()) {
+            // 남은 티켓이 모두 진행 중인 참여에 잠겨 있을 수 있으므로, 소진으로 판단하기 전에 잠금이 풀리기를 기다려 다시 확인
+            ticket = adRepository.findClaimableTicketWaiting(ad.getId());
+        }
+
+        if (ticket.isEmpty()) {
+            // 잠금이 풀리기를 기다려 커밋된 티켓까지 확인했으므로, 이 참여가 롤백되더라도 소진은 확정
+            adSoldOutRegistry.markSoldOut(ad.getId());
+            throw new CoreException(ErrorType.CONFLICT, "참여가 불가능합니다.");
+        }
+
+        ticket.get().claim(user, LocalDateTime.now());
+
+        return adRepository.countClaimableTickets(ad.getId());
+    }
+
+    private void issueTickets(Ad ad) {
+        // 티켓이 없는 광고는 광고 행 락을 잡고 한 번만 남은 참여 가능 횟수만큼 발급
+        Ad locked = adRepository.findByIdWithLock(ad.getId())
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 광고입니다."));
+
+        if (adRepository.findTicketsWithLock(locked.getId()).isEmpty()) {
+            adRepository.saveTickets(AdJoinTicket.issue(locked));
+        }
+    }
+}
@@ -1,19 +1,26 @@
 package com.discphy.ad.domain.point;
 
+import com.discphy.ad.exception.CoreException;
+import com.discphy.ad.exception.ErrorType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 public class PointClient {
 
-    public void reward(PointCommand.Reward command) {
-        log.info("포인트 적립 API 호출 - userId: {}, amount: {}", command.userId(), command.amount());
+    // 포인트 API 가 적립하지 못한 건을 돌려주므로 호출이 성공해도 건별로 결과를 확인해야 함
+    public List<PointCommand.Reward> rewardBatch(List<PointCommand.Reward> commands) {
+        log.info("포인트 일괄 적립 API 호출 - count: {}", commands.size());
         try {
-            Thread.sleep(300); // 포인트 API 응답 지연 시뮬레이션
+            Thread.sleep(300); // 건수와 무관하게 한 번의 API 응답 지연 시뮬레이션
         } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+            Thread.currentThread().interrupt(); // 종료 중인 호출 스레드가 중단 요청을 알 수 있도록 복원
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "포인트 적립 요청이 중단되었습니다.");
         }
-        log.info("포인트 적립 API 응답 - userId: {}, amount: {}", command.userId(), command.amount());
+        log.info("포인트 일괄 적립 API 응답 - count: {}", commands.size());
+        return List.of();
     }
 }
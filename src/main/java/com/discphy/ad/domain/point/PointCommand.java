@@ -4,10 +4,11 @@ public class PointCommand {
 
     public record Reward(
         Long userId,
-        Long amount
+        Long amount,
+        String idempotencyKey // 같은 키로 다시 보내도 포인트 API 는 한 번만 적립
     ) {
-        public static Reward of(Long userId, Long amount) {
-            return new Reward(userId, amount);
+        public static Reward of(Long userId, Long amount, String idempotencyKey) {
+            return new Reward(userId, amount, idempotencyKey);
         }
     }
 }
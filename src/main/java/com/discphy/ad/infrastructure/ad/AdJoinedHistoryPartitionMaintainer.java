@@ -0,0 +1,189 @@
+package com.discphy.ad.infrastructure.ad;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class AdJoinedHistoryPartitionMaintainer {
+
+    private static final String TABLE = "ad_joined_history";
+    private static final String MAX_PARTITION = "pmax";
+    private static final String LOCK_NAME = "ad_joined_history_partition";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'uuuuMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final boolean migrate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public AdJoinedHistoryPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                              @Value("${ad.joined-history.partition.enabled:false}") boolean enabled,
+                                              @Value("${ad.joined-history.partition.migrate:false}") boolean migrate,
+                                              @Value("${ad.joined-history.partition.months-ahead:3}") int monthsAhead,
+                                              @Value("${ad.joined-history.partition.retention-months:0}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.migrate = migrate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            withLock(() -> {
+                if (partitions().isEmpty()) {
+                    if (!migrate) { // 테이블 전체를 다시 쓰는 작업이므로 운영자가 지정한 한 인스턴스에서만 실행
+                        log.warn("[AdJoinedHistoryPartitionMaintainer.initialize] 참여 이력 테이블이 파티셔닝되어 있지 않아 관리하지 않음, migrate 로 한 번 구성 필요");
+                        return;
+                    }
+                    partition();
+                }
+                createOrDropPartitions();
+            });
+        } catch (Exception e) {
+            log.error("[AdJoinedHistoryPartitionMaintainer.initialize] 참여 이력 파티션 구성 실패", e);
+        }
+    }
+
+    @Scheduled(cron = "${ad.joined-history.partition.maintain-cron:0 0 3 * * *}", zone = "UTC")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            withLock(() -> {
+                if (!partitions().isEmpty()) {
+                    createOrDropPartitions();
+                }
+            });
+        } catch (Exception e) {
+            log.error("[AdJoinedHistoryPartitionMaintainer.maintain] 참여 이력 파티션 관리 실패", e);
+        }
+    }
+
+    public List<String> partitions() {
+        return jdbcTemplate.queryForList("""
+            SELECT PARTITION_NAME FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+            ORDER BY PARTITION_ORDINAL_POSITION
+            """, String.class, TABLE);
+    }
+
+    private void withLock(Runnable task) {
+        // 여러 인스턴스가 동시에 기동해도 한 곳에서만 DDL 을 실행하도록 DB 세션 잠금을 잡고, 잡지 못하면 건너뜀
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+                statement.setString(1, LOCK_NAME);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    if (!resultSet.next() || resultSet.getInt(1) != 1) {
+                        log.info("[AdJoinedHistoryPartitionMaintainer.withLock] 다른 인스턴스에서 파티션 관리 중, 건너뜀");
+                        return null;
+                    }
+                }
+            }
+
+            try {
+                task.run();
+            } finally {
+                try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+                    statement.setString(1, LOCK_NAME);
+                    statement.execute();
+                }
+            }
+            return null;
+        });
+    }
+
+    private void createOrDropPartitions() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        createFuturePartitions(current.plusMonths(monthsAhead));
+        if (retentionMonths > 0) {
+            dropExpiredPartitions(current.minusMonths(retentionMonths));
+        }
+    }
+
+    private void partition() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        YearMonth first = Optional.ofNullable(jdbcTemplate.queryForObject("SELECT MIN(joined_at) FROM " + TABLE, Timestamp.class))
+            .map(joinedAt -> YearMonth.from(joinedAt.toLocalDateTime()))
+            .filter(month -> month.isBefore(current))
+            .orElse(current);
+
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(current.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+
+        // 파티션 키는 모든 유니크 키에 포함되어야 하므로 기본 키에 참여 시각을 추가
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PRIMARY KEY, ADD PRIMARY KEY (ad_joined_history_id, joined_at)");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " PARTITION BY RANGE COLUMNS (joined_at) (" + definitionsOf(months) + ")");
+        log.info("[AdJoinedHistoryPartitionMaintainer.partition] 참여 이력 월별 파티션 구성: from={} to={}", first, months.getLast());
+    }
+
+    private void createFuturePartitions(YearMonth until) {
+        List<String> partitions = partitions();
+        YearMonth last = partitions.stream()
+            .filter(name -> !name.equals(MAX_PARTITION))
+            .map(name -> YearMonth.parse(name, PARTITION_NAME))
+            .reduce((first, second) -> second)
+            .orElseThrow();
+
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = last.plusMonths(1); !month.isAfter(until); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        if (months.isEmpty()) {
+            return;
+        }
+
+        // 비어있는 최대값 파티션만 나누므로 데이터 이동 없이 추가됨
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" + definitionsOf(months) + ")");
+        log.info("[AdJoinedHistoryPartitionMaintainer.createFuturePartitions] 참여 이력 파티션 추가: {}", months);
+    }
+
+    private void dropExpiredPartitions(YearMonth oldest) {
+        List<String> expired = partitions().stream()
+            .filter(name -> !name.equals(MAX_PARTITION))
+            .filter(name -> YearMonth.parse(name, PARTITION_NAME).isBefore(oldest))
+            .toList();
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        // 대량 DELETE 대신 파티션 단위로 삭제
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + String.join(", ", expired));
+        log.info("[AdJoinedHistoryPartitionMaintainer.dropExpiredPartitions] 보관 기간이 지난 참여 이력 파티션 삭제: {}", expired);
+    }
+
+    private String definitionsOf(List<YearMonth> months) {
+        String definitions = months.stream()
+            .map(month -> "PARTITION %s VALUES LESS THAN ('%s')".formatted(month.format(PARTITION_NAME), month.plusMonths(1).atDay(1)))
+            .collect(Collectors.joining(", "));
+        return definitions + ", PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)";
+    }
+}
@@ -0,0 +1,54 @@
+package com.discphy.ad.infrastructure.ad;
+
+import com.discphy.ad.domain.ad.AdInfo;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.function.Consumer;
+
+@Component
+public class AdJoinedHistoryStreamReader {
+
+    // 파티션 키 범위 조건만 두어 기간에 해당하는 월 파티션만 읽고, 정렬 없이 파티션 순서대로 내보냄
+    private static final String SQL = """
+        SELECT ad_joined_history_id, ad_id, user_id, name, joined_at, reward_amount
+        FROM ad_joined_history
+        WHERE joined_at >= ? AND joined_at < ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AdJoinedHistoryStreamReader(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(Integer.MIN_VALUE); // MySQL 드라이버는 전체 결과를 적재하지 않고 한 행씩 읽음
+    }
+
+    public void read(LocalDateTime from, LocalDateTime to, Consumer<AdInfo.JoinedHistory> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setTimestamp(1, Timestamp.valueOf(from), utc());
+            statement.setTimestamp(2, Timestamp.valueOf(to), utc());
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(new AdInfo.JoinedHistory(
+            resultSet.getLong("ad_joined_history_id"),
+            resultSet.getLong("ad_id"),
+            resultSet.getLong("user_id"),
+            resultSet.getString("name"),
+            resultSet.getTimestamp("joined_at", utc()).toLocalDateTime(),
+            resultSet.getLong("reward_amount")
+        )));
+    }
+
+    // hibernate.jdbc.time_zone 과 같은 기준으로 읽고 써야 JPA 로 저장한 참여 시각과 일치함
+    private Calendar utc() {
+        return Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+    }
+}
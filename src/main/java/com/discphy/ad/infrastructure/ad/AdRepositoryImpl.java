@@ -2,8 +2,20 @@ package com.discphy.ad.infrastructure.ad;
 
 import com.discphy.ad.domain.ad.Ad;
 import com.discphy.ad.domain.ad.AdCommand;
+import com.discphy.ad.domain.ad.AdEventOutbox;
+import com.discphy.ad.domain.ad.AdInventorySlot;
+import com.discphy.ad.domain.ad.AdJoinTicket;
+import com.discphy.ad.domain.ad.AdInfo;
+import com.discphy.ad.domain.ad.AdJoinableCursor;
+import com.discphy.ad.domain.ad.AdJoinedSummary;
 import com.discphy.ad.domain.ad.AdJoinedHistory;
+import com.discphy.ad.domain.ad.AdJoinedHistoryCursor;
 import com.discphy.ad.domain.ad.AdRepository;
+import com.discphy.ad.domain.ad.AdStatus;
+import com.discphy.ad.domain.ad.UserJoinProfile;
+import com.discphy.ad.infrastructure.ad.jpa.AdEventOutboxJpaRepository;
+import com.discphy.ad.infrastructure.ad.jpa.AdInventorySlotJpaRepository;
+import com.discphy.ad.infrastructure.ad.jpa.AdJoinTicketJpaRepository;
 import com.discphy.ad.infrastructure.ad.jpa.AdJoinedUserJpaRepository;
 import com.discphy.ad.infrastructure.ad.jpa.AdJpaRepository;
 import lombok.RequiredArgsConstructor;
@@ -12,8 +24,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -21,6 +37,10 @@ public class AdRepositoryImpl implements AdRepository {
 
     private final AdJpaRepository adJpaRepository;
     private final AdJoinedUserJpaRepository adJoinedUserJpaRepository;
+    private final AdInventorySlotJpaRepository adInventorySlotJpaRepository;
+    private final AdJoinTicketJpaRepository adJoinTicketJpaRepository;
+    private final AdEventOutboxJpaRepository adEventOutboxJpaRepository;
+    private final AdJoinedHistoryStreamReader adJoinedHistoryStreamReader;
 
     @Override
     public boolean existsByName(String name) {
@@ -37,24 +57,212 @@ public class AdRepositoryImpl implements AdRepository {
         return adJpaRepository.findJoinableAds(dateTime);
     }
 
+    @Override
+    public List<Ad> findJoinableAds(LocalDateTime dateTime, AdJoinableCursor cursor, int size) {
+        return adJpaRepository.findJoinableAdsAfter(dateTime, cursor.rewardAmount(), cursor.adId(), PageRequest.of(0, size));
+    }
+
+    @Override
+    public List<Ad> findNotEndedAds(LocalDateTime dateTime) {
+        return adJpaRepository.findByEndedAtGreaterThanEqual(dateTime);
+    }
+
+    @Override
+    public Optional<Ad> findById(Long id) {
+        return adJpaRepository.findById(id);
+    }
+
     @Override
     public Optional<Ad> findByIdWithLock(Long id) {
         return adJpaRepository.findByIdWithLock(id);
     }
 
+    @Override
+    public void updateJoinCount(Long id, int joinCount) {
+        adJpaRepository.updateJoinCount(id, joinCount);
+    }
+
+    @Override
+    public boolean decreaseJoinCount(Long id) {
+        return adJpaRepository.decreaseJoinCount(id) > 0;
+    }
+
+    @Override
+    public int findJoinCount(Long id) {
+        return adJpaRepository.findJoinCountById(id);
+    }
+
+    @Override
+    public boolean updateStatus(Long id, Collection<AdStatus> from, AdStatus status) {
+        return adJpaRepository.updateStatus(id, from, status) > 0;
+    }
+
+    @Override
+    public int backfillStatuses(LocalDateTime dateTime) {
+        return adJpaRepository.backfillStatuses(dateTime);
+    }
+
+    @Override
+    public int transitStatuses(LocalDateTime dateTime) {
+        return adJpaRepository.endStatuses(dateTime) + adJpaRepository.activateStatuses(dateTime);
+    }
+
     @Override
     public AdJoinedHistory saveJoinedUser(AdJoinedHistory joinedUser) {
         return adJoinedUserJpaRepository.save(joinedUser);
     }
 
     @Override
-    public List<AdJoinedHistory> findJoinedHistories(AdCommand.JoinedHistoriesQuery command) {
-        Pageable pageable = PageRequest.of(command.page(), command.size());
-        return adJoinedUserJpaRepository.findByUserIdOrderByJoinedAtAsc(command.userId(), pageable);
+    public List<AdJoinedHistory> saveJoinedUsers(List<AdJoinedHistory> joinedUsers) {
+        return adJoinedUserJpaRepository.saveAll(joinedUsers);
+    }
+
+    @Override
+    public AdEventOutbox saveOutbox(AdEventOutbox outbox) {
+        return adEventOutboxJpaRepository.save(outbox);
+    }
+
+    @Override
+    public List<AdEventOutbox> saveOutboxes(List<AdEventOutbox> outboxes) {
+        return adEventOutboxJpaRepository.saveAll(outboxes);
+    }
+
+    @Override
+    public List<AdEventOutbox> findClaimableOutboxes(LocalDateTime dateTime, int limit) {
+        return adEventOutboxJpaRepository.findClaimable(dateTime, limit);
+    }
+
+    @Override
+    public int updateOutboxesSent(Collection<Long> ids, LocalDateTime sentAt) {
+        return adEventOutboxJpaRepository.updateSent(ids, sentAt);
+    }
+
+    @Override
+    public int updateOutboxesDead(Collection<Long> ids) {
+        return adEventOutboxJpaRepository.updateDead(ids);
+    }
+
+    @Override
+    public int replayDeadOutboxes(LocalDateTime dateTime, int limit) {
+        return adEventOutboxJpaRepository.updateDeadToPending(dateTime, limit);
+    }
+
+    @Override
+    public int deleteSentOutboxes(LocalDateTime sentBefore, int limit) {
+        return adEventOutboxJpaRepository.deleteSent(sentBefore, limit);
+    }
+
+    @Override
+    public List<AdInfo.JoinedHistory> findJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery command) {
+        if (command.hasPeriod()) {
+            AdJoinedHistoryCursor cursor = command.hasCursor() ? command.cursor() : new AdJoinedHistoryCursor(command.from(), 0L);
+            Pageable pageable = command.hasCursor() ? PageRequest.of(0, command.size()) : PageRequest.of(command.page(), command.size());
+            return adJoinedUserJpaRepository.findInfosByUserIdBetweenAfter(
+                command.userId(), command.from(), command.to(), cursor.joinedAt(), cursor.historyId(), pageable
+            );
+        }
+
+        if (command.hasCursor()) {
+            AdJoinedHistoryCursor cursor = command.cursor();
+            return adJoinedUserJpaRepository.findInfosByUserIdAfter(command.userId(), cursor.joinedAt(), cursor.historyId(), PageRequest.of(0, command.size()));
+        }
+
+        return adJoinedUserJpaRepository.findInfosByUserId(command.userId(), PageRequest.of(command.page(), command.size()));
+    }
+
+    @Override
+    public void streamJoinedHistories(LocalDateTime from, LocalDateTime to, Consumer<AdInfo.JoinedHistory> consumer) {
+        adJoinedHistoryStreamReader.read(from, to, consumer);
+    }
+
+    @Override
+    public UserJoinProfile findJoinProfile(Long userId) {
+        return UserJoinProfile.of(adJoinedUserJpaRepository.summarizeByUserId(userId));
+    }
+
+    @Override
+    public Map<Long, UserJoinProfile> findJoinProfiles(List<Long> userIds) {
+        return adJoinedUserJpaRepository.summarizeByUserIdIn(userIds).stream()
+            .collect(Collectors.groupingBy(AdJoinedSummary::userId, Collectors.collectingAndThen(Collectors.toList(), UserJoinProfile::of)));
+    }
+
+    @Override
+    public long countJoinedHistories(Long adId) {
+        return adJoinedUserJpaRepository.countByAdId(adId);
+    }
+
+    @Override
+    public List<Ad> findJoinableAdsBySlots(LocalDateTime dateTime) {
+        return adJpaRepository.findJoinableAdsBySlots(dateTime);
+    }
+
+    @Override
+    public List<Ad> findJoinableAdsBySlots(LocalDateTime dateTime, AdJoinableCursor cursor, int size) {
+        return adJpaRepository.findJoinableAdsBySlotsAfter(dateTime, cursor.rewardAmount(), cursor.adId(), PageRequest.of(0, size));
+    }
+
+    @Override
+    public List<AdInventorySlot> saveInventorySlots(List<AdInventorySlot> slots) {
+        return adInventorySlotJpaRepository.saveAll(slots);
+    }
+
+    @Override
+    public List<AdInventorySlot> findInventorySlotsWithLock(Long adId) {
+        return adInventorySlotJpaRepository.findByAdIdWithLock(adId);
+    }
+
+    @Override
+    public boolean existsInventorySlots(Long adId) {
+        return adInventorySlotJpaRepository.existsByAdId(adId);
+    }
+
+    @Override
+    public boolean decreaseInventorySlot(Long adId, int slotNo) {
+        return adInventorySlotJpaRepository.decrease(adId, slotNo) > 0;
+    }
+
+    @Override
+    public int sumInventorySlots(Long adId) {
+        return (int) adInventorySlotJpaRepository.sumRemainingByAdId(adId);
+    }
+
+    @Override
+    public List<Ad> findJoinableAdsByTickets(LocalDateTime dateTime) {
+        return adJpaRepository.findJoinableAdsByTickets(dateTime);
+    }
+
+    @Override
+    public List<Ad> findJoinableAdsByTickets(LocalDateTime dateTime, AdJoinableCursor cursor, int size) {
+        return adJpaRepository.findJoinableAdsByTicketsAfter(dateTime, cursor.rewardAmount(), cursor.adId(), PageRequest.of(0, size));
+    }
+
+    @Override
+    public List<AdJoinTicket> saveTickets(List<AdJoinTicket> tickets) {
+        return adJoinTicketJpaRepository.saveAll(tickets);
+    }
+
+    @Override
+    public List<AdJoinTicket> findTicketsWithLock(Long adId) {
+        return adJoinTicketJpaRepository.findByAdIdWithLock(adId);
+    }
+
+    @Override
+    public Optional<AdJoinTicket> findClaimableTicket(Long adId) {
+        return adJoinTicketJpaRepository.findClaimableByAdId(adId);
+    }
+
+    @Override
+    public Optional<AdJoinTicket> findClaimableTicketWaiting(Long adId) {
+        return adJoinTicketJpaRepository.findClaimableByAdIdWaiting(adId);
+    }
+
+    @Override
+    public boolean existsTickets(Long adId) {
+        return adJoinTicketJpaRepository.existsByAdId(adId);
     }
 
     @Override
-    public List<AdJoinedHistory> findJoinedHistories(Long userId) {
-        return adJoinedUserJpaRepository.findByUserId(userId);
+    public int countClaimableTickets(Long adId) {
+        return adJoinTicketJpaRepository.countByAdIdAndClaimedAtIsNull(adId);
     }
 }
@@ -0,0 +1,61 @@
+package com.discphy.ad.infrastructure.ad.jpa;
+
+import com.discphy.ad.domain.ad.AdEventOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface AdEventOutboxJpaRepository extends JpaRepository<AdEventOutbox, Long> {
+
+    // 다른 릴레이가 잠근 행은 건너뛰어 여러 노드가 서로 다른 행을 가져감
+    @Query(value = """
+        SELECT * FROM ad_event_outbox
+        WHERE status = 'PENDING' AND available_at <= :now
+        ORDER BY available_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<AdEventOutbox> findClaimable(LocalDateTime now, int limit);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE AdEventOutbox o
+        SET o.status = com.discphy.ad.domain.ad.AdEventOutboxStatus.SENT, o.sentAt = :sentAt
+        WHERE o.id IN :ids
+    """)
+    int updateSent(Collection<Long> ids, LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE AdEventOutbox o
+        SET o.status = com.discphy.ad.domain.ad.AdEventOutboxStatus.DEAD
+        WHERE o.id IN :ids
+    """)
+    int updateDead(Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE ad_event_outbox
+        SET status = 'PENDING', attempts = 0, available_at = :now
+        WHERE status = 'DEAD'
+        LIMIT :limit
+    """, nativeQuery = true)
+    int updateDeadToPending(LocalDateTime now, int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+        DELETE FROM ad_event_outbox
+        WHERE status = 'SENT' AND sent_at < :sentBefore
+        LIMIT :limit
+    """, nativeQuery = true)
+    int deleteSent(LocalDateTime sentBefore, int limit);
+}
@@ -0,0 +1,28 @@
+package com.discphy.ad.infrastructure.ad.jpa;
+
+import com.discphy.ad.domain.ad.AdInventorySlot;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface AdInventorySlotJpaRepository extends JpaRepository<AdInventorySlot, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AdInventorySlot s WHERE s.adId = :adId")
+    List<AdInventorySlot> findByAdIdWithLock(Long adId);
+
+    boolean existsByAdId(Long adId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdInventorySlot s SET s.remaining = s.remaining - 1 WHERE s.adId = :adId AND s.slotNo = :slotNo AND s.remaining > 0")
+    int decrease(Long adId, int slotNo);
+
+    @Query("SELECT COALESCE(SUM(s.remaining), 0) FROM AdInventorySlot s WHERE s.adId = :adId")
+    long sumRemainingByAdId(Long adId);
+}
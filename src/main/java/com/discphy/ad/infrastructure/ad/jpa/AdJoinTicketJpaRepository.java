@@ -0,0 +1,38 @@
+package com.discphy.ad.infrastructure.ad.jpa;
+
+import com.discphy.ad.domain.ad.AdJoinTicket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AdJoinTicketJpaRepository extends JpaRepository<AdJoinTicket, Long> {
+
+    @Query(value = """
+        SELECT * FROM ad_join_ticket
+        WHERE ad_id = :adId AND claimed_at IS NULL
+        LIMIT 1
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    Optional<AdJoinTicket> findClaimableByAdId(Long adId);
+
+    // 선점 중인 티켓의 트랜잭션이 끝날 때까지 기다렸다가 롤백되어 남은 티켓을 가져감
+    @Query(value = """
+        SELECT * FROM ad_join_ticket
+        WHERE ad_id = :adId AND claimed_at IS NULL
+        LIMIT 1
+        FOR UPDATE
+    """, nativeQuery = true)
+    Optional<AdJoinTicket> findClaimableByAdIdWaiting(Long adId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM AdJoinTicket t WHERE t.adId = :adId")
+    List<AdJoinTicket> findByAdIdWithLock(Long adId);
+
+    boolean existsByAdId(Long adId);
+
+    int countByAdIdAndClaimedAtIsNull(Long adId);
+}
@@ -1,14 +1,68 @@
 package com.discphy.ad.infrastructure.ad.jpa;
 
+import com.discphy.ad.domain.ad.AdInfo;
 import com.discphy.ad.domain.ad.AdJoinedHistory;
+import com.discphy.ad.domain.ad.AdJoinedSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface AdJoinedUserJpaRepository extends JpaRepository<AdJoinedHistory, Long> {
 
-    List<AdJoinedHistory> findByUserIdOrderByJoinedAtAsc(Long userId, Pageable pageable);
+    // 응답에 필요한 컬럼만 레코드로 읽어 영속성 컨텍스트에 엔티티와 스냅샷을 남기지 않음
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+        SELECT new com.discphy.ad.domain.ad.AdInfo$JoinedHistory(h.id, h.adId, h.userId, h.name, h.joinedAt, h.rewardAmount)
+        FROM AdJoinedHistory h
+        WHERE h.userId = :userId
+        ORDER BY h.joinedAt ASC, h.id ASC
+    """)
+    List<AdInfo.JoinedHistory> findInfosByUserId(Long userId, Pageable pageable);
 
-    List<AdJoinedHistory> findByUserId(Long userId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+        SELECT new com.discphy.ad.domain.ad.AdInfo$JoinedHistory(h.id, h.adId, h.userId, h.name, h.joinedAt, h.rewardAmount)
+        FROM AdJoinedHistory h
+        WHERE h.userId = :userId AND h.joinedAt >= :joinedAt
+          AND (h.joinedAt > :joinedAt OR h.id > :historyId)
+        ORDER BY h.joinedAt ASC, h.id ASC
+    """)
+    List<AdInfo.JoinedHistory> findInfosByUserIdAfter(Long userId, LocalDateTime joinedAt, Long historyId, Pageable pageable);
+
+    // 참여 시각 범위가 상수로 주어져야 월별 파티션 중 해당 구간만 읽음
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("""
+        SELECT new com.discphy.ad.domain.ad.AdInfo$JoinedHistory(h.id, h.adId, h.userId, h.name, h.joinedAt, h.rewardAmount)
+        FROM AdJoinedHistory h
+        WHERE h.userId = :userId AND h.joinedAt >= :from AND h.joinedAt < :to
+          AND h.joinedAt >= :joinedAt AND (h.joinedAt > :joinedAt OR h.id > :historyId)
+        ORDER BY h.joinedAt ASC, h.id ASC
+    """)
+    List<AdInfo.JoinedHistory> findInfosByUserIdBetweenAfter(Long userId, LocalDateTime from, LocalDateTime to,
+                                                             LocalDateTime joinedAt, Long historyId, Pageable pageable);
+
+    @Query("""
+        SELECT new com.discphy.ad.domain.ad.AdJoinedSummary(h.userId, h.adId, COUNT(h), MAX(h.joinedAt))
+        FROM AdJoinedHistory h
+        WHERE h.userId = :userId
+        GROUP BY h.userId, h.adId
+    """)
+    List<AdJoinedSummary> summarizeByUserId(Long userId);
+
+    @Query("""
+        SELECT new com.discphy.ad.domain.ad.AdJoinedSummary(h.userId, h.adId, COUNT(h), MAX(h.joinedAt))
+        FROM AdJoinedHistory h
+        WHERE h.userId IN :userIds
+        GROUP BY h.userId, h.adId
+    """)
+    List<AdJoinedSummary> summarizeByUserIdIn(Collection<Long> userIds);
+
+    long countByAdId(Long adId);
 }
@@ -1,12 +1,17 @@
 package com.discphy.ad.infrastructure.ad.jpa;
 
 import com.discphy.ad.domain.ad.Ad;
+import com.discphy.ad.domain.ad.AdStatus;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,14 +20,108 @@ public interface AdJpaRepository extends JpaRepository<Ad, Long> {
 
     @Query("""
         SELECT a FROM Ad a
-        WHERE a.joinCount > 0 AND a.startedAt <= :dateTime AND a.endedAt >= :dateTime
-        ORDER BY a.rewardAmount DESC
+        WHERE a.status = com.discphy.ad.domain.ad.AdStatus.ACTIVE AND a.startedAt <= :dateTime AND a.endedAt >= :dateTime
+        ORDER BY a.rewardAmount DESC, a.id ASC
     """)
     List<Ad> findJoinableAds(LocalDateTime dateTime);
 
+    @Query("""
+        SELECT a FROM Ad a
+        WHERE a.status = com.discphy.ad.domain.ad.AdStatus.ACTIVE AND a.startedAt <= :dateTime AND a.endedAt >= :dateTime
+          AND (a.rewardAmount < :rewardAmount OR (a.rewardAmount = :rewardAmount AND a.id > :adId))
+        ORDER BY a.rewardAmount DESC, a.id ASC
+    """)
+    List<Ad> findJoinableAdsAfter(LocalDateTime dateTime, long rewardAmount, long adId, Pageable pageable);
+
+    List<Ad> findByEndedAtGreaterThanEqual(LocalDateTime dateTime);
+
+    @Query("""
+        SELECT a FROM Ad a
+        WHERE a.status = com.discphy.ad.domain.ad.AdStatus.ACTIVE AND a.startedAt <= :dateTime AND a.endedAt >= :dateTime
+          AND COALESCE((SELECT SUM(s.remaining) FROM AdInventorySlot s WHERE s.adId = a.id), a.joinCount) > 0
+        ORDER BY a.rewardAmount DESC, a.id ASC
+    """)
+    List<Ad> findJoinableAdsBySlots(LocalDateTime dateTime);
+
+    @Query("""
+        SELECT a FROM Ad a
+        WHERE a.status = com.discphy.ad.domain.ad.AdStatus.ACTIVE AND a.startedAt <= :dateTime AND a.endedAt >= :dateTime
+          AND COALESCE((SELECT SUM(s.remaining) FROM AdInventorySlot s WHERE s.adId = a.id), a.joinCount) > 0
+          AND (a.rewardAmount < :rewardAmount OR (a.rewardAmount = :rewardAmount AND a.id > :adId))
+        ORDER BY a.rewardAmount DESC, a.id ASC
+    """)
+    List<Ad> findJoinableAdsBySlotsAfter(LocalDateTime dateTime, long rewardAmount, long adId, Pageable pageable);
+
+    @Query("""
+        SELECT a FROM Ad a
+        WHERE a.status = com.discphy.ad.domain.ad.AdStatus.ACTIVE AND a.startedAt <= :dateTime AND a.endedAt >= :dateTime
+          AND (EXISTS (SELECT 1 FROM AdJoinTicket t WHERE t.adId = a.id AND t.claimedAt IS NULL)
+            OR (a.joinCount > 0 AND NOT EXISTS (SELECT 1 FROM AdJoinTicket t WHERE t.adId = a.id)))
+        ORDER BY a.rewardAmount DESC, a.id ASC
+    """)
+    List<Ad> findJoinableAdsByTickets(LocalDateTime dateTime);
+
+    @Query("""
+        SELECT a FROM Ad a
+        WHERE a.status = com.discphy.ad.domain.ad.AdStatus.ACTIVE AND a.startedAt <= :dateTime AND a.endedAt >= :dateTime
+          AND (EXISTS (SELECT 1 FROM AdJoinTicket t WHERE t.adId = a.id AND t.claimedAt IS NULL)
+            OR (a.joinCount > 0 AND NOT EXISTS (SELECT 1 FROM AdJoinTicket t WHERE t.adId = a.id)))
+          AND (a.rewardAmount < :rewardAmount OR (a.rewardAmount = :rewardAmount AND a.id > :adId))
+        ORDER BY a.rewardAmount DESC, a.id ASC
+    """)
+    List<Ad> findJoinableAdsByTicketsAfter(LocalDateTime dateTime, long rewardAmount, long adId, Pageable pageable);
+
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT a FROM Ad a WHERE a.id = :id")
     Optional<Ad> findByIdWithLock(Long id);
 
+    @Transactional
+    @Modifying
+    @Query("UPDATE Ad a SET a.joinCount = :joinCount WHERE a.id = :id")
+    int updateJoinCount(Long id, int joinCount);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Ad a SET a.joinCount = a.joinCount - 1 WHERE a.id = :id AND a.joinCount > 0")
+    int decreaseJoinCount(Long id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Ad a SET a.status = :status WHERE a.id = :id AND a.status IN :from")
+    int updateStatus(Long id, Collection<AdStatus> from, AdStatus status);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE Ad a SET a.status = CASE
+            WHEN a.endedAt < :dateTime THEN com.discphy.ad.domain.ad.AdStatus.ENDED
+            WHEN a.joinCount <= 0 THEN com.discphy.ad.domain.ad.AdStatus.SOLD_OUT
+            WHEN a.startedAt > :dateTime THEN com.discphy.ad.domain.ad.AdStatus.SCHEDULED
+            ELSE com.discphy.ad.domain.ad.AdStatus.ACTIVE
+        END
+        WHERE a.status IS NULL
+    """)
+    int backfillStatuses(LocalDateTime dateTime);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE Ad a SET a.status = com.discphy.ad.domain.ad.AdStatus.ENDED
+        WHERE a.status IN (com.discphy.ad.domain.ad.AdStatus.SCHEDULED, com.discphy.ad.domain.ad.AdStatus.ACTIVE, com.discphy.ad.domain.ad.AdStatus.SOLD_OUT)
+          AND a.endedAt < :dateTime
+    """)
+    int endStatuses(LocalDateTime dateTime);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        UPDATE Ad a SET a.status = com.discphy.ad.domain.ad.AdStatus.ACTIVE
+        WHERE a.status = com.discphy.ad.domain.ad.AdStatus.SCHEDULED AND a.startedAt <= :dateTime
+    """)
+    int activateStatuses(LocalDateTime dateTime);
+
+    @Query("SELECT a.joinCount FROM Ad a WHERE a.id = :id")
+    int findJoinCountById(Long id);
+
     boolean existsByName(String name);
 }
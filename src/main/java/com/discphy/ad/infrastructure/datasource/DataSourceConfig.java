@@ -0,0 +1,74 @@
+package com.discphy.ad.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+    }
+
+    // 참여 트랜잭션이 락을 잡고 있는 주 DB 풀과 목록 조회 풀을 분리
+    @Bean
+    @ConditionalOnProperty(name = "ad.datasource.replica.enabled", havingValue = "true")
+    @ConfigurationProperties("ad.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(@Value("${ad.datasource.replica.url}") String url,
+                                              @Value("${ad.datasource.replica.username}") String username,
+                                              @Value("${ad.datasource.replica.password}") String password) {
+        return DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "ad.datasource.replica.enabled", havingValue = "true")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                               @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${ad.datasource.replica.max-lag:5s}") Duration maxLag) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaDataSource, meterRegistry, maxLag);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+
+        RoutingDataSource routingDataSource = new RoutingDataSource(() -> monitor != null && monitor.isAvailable());
+        routingDataSource.setTargetDataSources(Map.of(
+            DataSourceType.PRIMARY, primaryDataSource,
+            DataSourceType.REPLICA, replicaDataSource.getIfAvailable(() -> primaryDataSource)
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // 트랜잭션 시작 시점에는 읽기 전용 여부가 아직 설정되지 않으므로 첫 쿼리 시점에 커넥션을 결정
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
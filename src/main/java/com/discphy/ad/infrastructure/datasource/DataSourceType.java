@@ -0,0 +1,6 @@
+package com.discphy.ad.infrastructure.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA,
+}
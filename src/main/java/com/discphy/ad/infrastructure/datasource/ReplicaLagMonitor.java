@@ -0,0 +1,82 @@
+package com.discphy.ad.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final long UNKNOWN = -1L;
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+    private volatile long lagMillis = UNKNOWN; // 첫 측정 전에는 복제본을 쓰지 않음
+    private boolean initialized;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, MeterRegistry meterRegistry, Duration maxLag) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primary);
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+
+        Gauge.builder("ad.datasource.replica.lag", this, monitor -> monitor.lagMillis == UNKNOWN ? Double.NaN : monitor.lagMillis / 1000.0)
+            .description("주 DB 하트비트 기준 복제 지연")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("ad.datasource.replica.available", this, monitor -> monitor.isAvailable() ? 1 : 0)
+            .description("읽기 전용 트랜잭션의 복제본 사용 여부")
+            .register(meterRegistry);
+    }
+
+    // 주 DB 에 기록한 하트비트가 복제본에 반영된 시각으로 지연을 측정 (측정 해상도는 하트비트 주기)
+    @Scheduled(fixedDelayString = "${ad.datasource.replica.heartbeat-interval:1000}")
+    public void heartbeat() {
+        try {
+            if (!initialized) {
+                primaryJdbcTemplate.execute("""
+                    CREATE TABLE IF NOT EXISTS replication_heartbeat (
+                        id TINYINT PRIMARY KEY,
+                        beat_at DATETIME(6) NOT NULL
+                    )
+                    """);
+                initialized = true;
+            }
+            primaryJdbcTemplate.update("""
+                INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, UTC_TIMESTAMP(6))
+                ON DUPLICATE KEY UPDATE beat_at = VALUES(beat_at)
+                """);
+        } catch (DataAccessException e) {
+            log.warn("[ReplicaLagMonitor.heartbeat] 하트비트 기록 실패", e);
+        }
+
+        check();
+    }
+
+    public void check() {
+        try {
+            Long lag = replicaJdbcTemplate.queryForObject(
+                "SELECT TIMESTAMPDIFF(MICROSECOND, beat_at, UTC_TIMESTAMP(6)) DIV 1000 FROM replication_heartbeat WHERE id = 1",
+                Long.class
+            );
+            lagMillis = lag != null ? Math.max(lag, 0L) : UNKNOWN;
+        } catch (DataAccessException e) {
+            lagMillis = UNKNOWN;
+            log.warn("[ReplicaLagMonitor.check] 복제 지연 측정 실패, 주 DB 로 읽음", e);
+        }
+    }
+
+    public boolean isAvailable() {
+        return lagMillis != UNKNOWN && lagMillis <= maxLag.toMillis();
+    }
+
+    public Duration lag() {
+        return lagMillis == UNKNOWN ? null : Duration.ofMillis(lagMillis);
+    }
+}
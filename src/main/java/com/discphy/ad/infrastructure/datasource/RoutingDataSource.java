@@ -0,0 +1,26 @@
+package com.discphy.ad.infrastructure.datasource;
+
+import com.discphy.ad.common.DataSourceRoutingContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.BooleanSupplier;
+
+@RequiredArgsConstructor
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    private final BooleanSupplier replicaAvailable;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceType.PRIMARY;
+        }
+        if (DataSourceRoutingContext.isPrimaryForced() || !replicaAvailable.getAsBoolean()) {
+            return DataSourceType.PRIMARY; // 방금 쓴 데이터를 읽거나 복제 지연이 크면 주 DB 에서 읽음
+        }
+
+        return DataSourceType.REPLICA;
+    }
+}
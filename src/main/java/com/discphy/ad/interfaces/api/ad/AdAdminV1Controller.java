@@ -0,0 +1,119 @@
+package com.discphy.ad.interfaces.api.ad;
+
+import com.discphy.ad.application.ad.AdFacade;
+import com.discphy.ad.domain.ad.AdCommand;
+import com.discphy.ad.exception.CoreException;
+import com.discphy.ad.exception.ErrorType;
+import com.discphy.ad.interfaces.api.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+
+@RestController
+public class AdAdminV1Controller {
+
+    private final AdFacade adFacade;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectWriter csvWriter;
+    private final String adminToken;
+    private final Semaphore exportPermits; // 내보내기는 끝날 때까지 커넥션 하나를 점유하므로 동시 실행 수를 제한
+    private final Duration exportTimeout;
+
+    public AdAdminV1Controller(AdFacade adFacade,
+                               ObjectMapper objectMapper,
+                               @Value("${ad.admin.token:}") String adminToken,
+                               @Value("${ad.admin.export.max-concurrency:1}") int exportMaxConcurrency,
+                               @Value("${ad.admin.export.timeout:30m}") Duration exportTimeout) {
+        CsvMapper csvMapper = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+        this.adFacade = adFacade;
+        // 행마다 flush 하지 않고 생성기 버퍼가 찰 때마다 응답으로 내보냄
+        this.ndjsonWriter = objectMapper.writerFor(AdV1Dto.ExportJoinedHistoryItem.class)
+            .withRootValueSeparator("\n")
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.csvWriter = csvMapper.writer(csvMapper.schemaFor(AdV1Dto.ExportJoinedHistoryItem.class).withHeader())
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.adminToken = adminToken;
+        this.exportPermits = new Semaphore(exportMaxConcurrency);
+        this.exportTimeout = exportTimeout;
+    }
+
+    @GetMapping("/api/v1/ads/histories/export")
+    public WebAsyncTask<Void> exportJoinedHistories(
+        @RequestHeader("X-ADMIN-TOKEN") String token,
+        @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @RequestParam(value = "format", defaultValue = "ndjson", required = false) String format,
+        HttpServletResponse response) {
+        validateAdmin(token);
+        AdCommand.ExportJoinedHistories command = AdCommand.ExportJoinedHistories.of(from, to);
+        AdV1Dto.ExportFormat exportFormat = AdV1Dto.ExportFormat.from(format);
+        ObjectWriter writer = exportFormat == AdV1Dto.ExportFormat.CSV ? csvWriter : ndjsonWriter;
+
+        if (!exportPermits.tryAcquire()) {
+            throw new CoreException(ErrorType.CONFLICT, "진행 중인 내보내기가 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        response.setContentType(exportFormat.getMediaType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(exportFormat.filename()).build().toString());
+
+        // 조회한 행을 바로 응답 스트림에 쓰므로 힙에는 한 행만 머무름
+        WebAsyncTask<Void> task = new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            try (SequenceWriter sequenceWriter = writer.writeValues(response.getOutputStream())) {
+                adFacade.exportJoinedHistories(command, history -> write(sequenceWriter, AdV1Dto.ExportJoinedHistoryItem.from(history)));
+            }
+            return null;
+        });
+        task.onCompletion(exportPermits::release); // 완료, 시간 초과, 오류 모두 비동기 요청이 끝나면 호출됨
+        return task;
+    }
+
+    @PostMapping("/api/v1/ads/outbox/replay")
+    public ApiResponse<AdV1Dto.ReplayDeadOutboxesResponse> replayDeadOutboxes(@RequestHeader("X-ADMIN-TOKEN") String token) {
+        validateAdmin(token);
+        int count = adFacade.replayDeadOutboxes();
+        return ApiResponse.success(new AdV1Dto.ReplayDeadOutboxesResponse(count));
+    }
+
+    private void validateAdmin(String token) {
+        boolean matched = !adminToken.isBlank()
+            && MessageDigest.isEqual(adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+
+        if (!matched) {
+            throw new CoreException(ErrorType.FORBIDDEN, "관리자 권한이 필요합니다.");
+        }
+    }
+
+    private void write(SequenceWriter sequenceWriter, AdV1Dto.ExportJoinedHistoryItem item) {
+        try {
+            sequenceWriter.write(item);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 클라이언트 연결이 끊기면 조회를 중단
+        }
+    }
+}
@@ -3,16 +3,32 @@ package com.discphy.ad.interfaces.api.ad;
 import com.discphy.ad.application.ad.AdFacade;
 import com.discphy.ad.domain.ad.AdCommand;
 import com.discphy.ad.domain.ad.AdInfo;
+import com.discphy.ad.exception.CoreException;
+import com.discphy.ad.exception.ErrorType;
 import com.discphy.ad.interfaces.api.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 @RestController
 @RequiredArgsConstructor
 public class AdV1Controller {
 
     private final AdFacade adFacade;
+    private final ObjectMapper objectMapper;
+
+    // 같은 목록을 공유하는 사용자끼리는 직렬화된 응답도 공유, 목록이 캐시에서 밀려나면 함께 정리
+    private final Cache<AdInfo.GetJoinAble, byte[]> joinableResponses = Caffeine.newBuilder()
+        .weakKeys()
+        .build();
 
     @PostMapping("/api/v1/ads")
     public ApiResponse<AdV1Dto.CreateResponse> create(@Valid @RequestBody AdV1Dto.CreateRequest request) {
@@ -28,20 +44,30 @@ public class AdV1Controller {
         return ApiResponse.success(AdV1Dto.JoinResponse.from(info));
     }
 
-    @GetMapping("/api/v1/ads")
-    public ApiResponse<AdV1Dto.GetJoinAbleResponse> getJoinable(@RequestHeader("X-USER-ID") Long userId) {
+    @GetMapping(value = "/api/v1/ads", produces = MediaType.APPLICATION_JSON_VALUE)
+    public byte[] getJoinable(@RequestHeader("X-USER-ID") Long userId) {
         AdInfo.GetJoinAble info = adFacade.getJoinable(userId);
-        return ApiResponse.success(AdV1Dto.GetJoinAbleResponse.from(info));
+        return joinableResponses.get(info, it -> serialize(ApiResponse.success(AdV1Dto.GetJoinAbleResponse.from(it))));
     }
 
     @GetMapping("/api/v1/ads/histories")
     public ApiResponse<AdV1Dto.GetJoinedHistoriesResponse> getJoinedHistories(
         @RequestHeader("X-USER-ID") Long userId,
         @RequestParam(value = "page", defaultValue = "1", required = false) int page,
-        @RequestParam(value = "size", defaultValue = "20", required = false) int size) {
-        AdCommand.JoinedHistoriesQuery command = AdCommand.JoinedHistoriesQuery.of(userId, page, size);
+        @RequestParam(value = "size", defaultValue = "20", required = false) int size,
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        AdCommand.JoinedHistoriesQuery command = AdCommand.JoinedHistoriesQuery.of(userId, page, size, cursor, from, to);
         AdInfo.GetJoinedHistories info = adFacade.getJoinedHistories(command);
         return ApiResponse.success(AdV1Dto.GetJoinedHistoriesResponse.from(info));
     }
 
+    private byte[] serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "응답 직렬화에 실패했습니다.");
+        }
+    }
 }
@@ -1,20 +1,28 @@
 package com.discphy.ad.interfaces.api.ad;
 
+import com.discphy.ad.domain.ad.Ad;
 import com.discphy.ad.domain.ad.AdCommand;
 import com.discphy.ad.domain.ad.AdInfo;
 import com.discphy.ad.domain.ad.AdJoinConditionType;
 import com.discphy.ad.exception.CoreException;
 import com.discphy.ad.exception.ErrorType;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.Arrays;
 import java.util.List;
 
+// TSID 식별자는 2^53 을 넘어 JavaScript 숫자로 읽으면 정밀도가 손실되므로 응답에서는 문자열로 내려줌
 public class AdV1Dto {
 
     public record CreateRequest(
@@ -26,8 +34,21 @@ public class AdV1Dto {
         @NotNull(message = "광고 노출 시작 시간은 필수입니다.") String startedAt,
         @NotNull(message = "광고 노출 종료 시간은 필수입니다.") String endedAt,
         @NotNull(message = "광고 참여 조건은 필수입니다.") AdJoinConditionType type,
-        String context
+        String context,
+        Integer inventorySlotCount
     ) {
+        public CreateRequest(String name,
+                             Long rewardAmount,
+                             Integer joinCount,
+                             String description,
+                             String imageUrl,
+                             String startedAt,
+                             String endedAt,
+                             AdJoinConditionType type,
+                             String context) {
+            this(name, rewardAmount, joinCount, description, imageUrl, startedAt, endedAt, type, context, null);
+        }
+
         public AdCommand.Create toCommand() {
             return new AdCommand.Create(
                 name,
@@ -38,7 +59,8 @@ public class AdV1Dto {
                 dateParse(startedAt, LocalTime.of(0, 0, 0)),
                 dateParse(endedAt, LocalTime.of(23, 59, 59)),
                 type,
-                context
+                context,
+                inventorySlotCount != null ? inventorySlotCount : Ad.DEFAULT_INVENTORY_SLOT_COUNT
             );
         }
 
@@ -55,7 +77,7 @@ public class AdV1Dto {
     }
 
     public record CreateResponse(
-        Long id,
+        @JsonSerialize(using = ToStringSerializer.class) Long id,
         String name,
         String description,
         String imageUrl,
@@ -73,8 +95,8 @@ public class AdV1Dto {
     }
 
     public record JoinResponse(
-        Long adId,
-        Long userId,
+        @JsonSerialize(using = ToStringSerializer.class) Long adId,
+        @JsonSerialize(using = ToStringSerializer.class) Long userId,
         LocalDateTime joinedAt
     ) {
         public static JoinResponse from(AdInfo.Join info) {
@@ -99,7 +121,7 @@ public class AdV1Dto {
     }
 
     private record GetJoinAbleItem(
-        Long adId,
+        @JsonSerialize(using = ToStringSerializer.class) Long adId,
         String name,
         String description,
         String imageUrl,
@@ -117,10 +139,11 @@ public class AdV1Dto {
     }
 
     public record GetJoinedHistoriesResponse(
-        Long userId,
+        @JsonSerialize(using = ToStringSerializer.class) Long userId,
         int page,
         int size,
-        List<GetJoinedHistoryItem> histories
+        List<GetJoinedHistoryItem> histories,
+        String nextCursor
     ) {
         public static GetJoinedHistoriesResponse from(AdInfo.GetJoinedHistories info) {
             return new GetJoinedHistoriesResponse(
@@ -129,14 +152,15 @@ public class AdV1Dto {
                 info.size(),
                 info.histories().stream()
                     .map(GetJoinedHistoryItem::from)
-                    .toList()
+                    .toList(),
+                info.nextCursor()
             );
         }
     }
 
     private record GetJoinedHistoryItem(
-        Long adId,
-        Long userId,
+        @JsonSerialize(using = ToStringSerializer.class) Long adId,
+        @JsonSerialize(using = ToStringSerializer.class) Long userId,
         String name,
         LocalDateTime joinedAt,
         long rewardAmount
@@ -151,4 +175,51 @@ public class AdV1Dto {
             );
         }
     }
+
+    public record ReplayDeadOutboxesResponse(
+        int count
+    ) {
+    }
+
+    @JsonPropertyOrder({"id", "adId", "userId", "name", "joinedAt", "rewardAmount"})
+    public record ExportJoinedHistoryItem(
+        @JsonSerialize(using = ToStringSerializer.class) Long id,
+        @JsonSerialize(using = ToStringSerializer.class) Long adId,
+        @JsonSerialize(using = ToStringSerializer.class) Long userId,
+        String name,
+        LocalDateTime joinedAt,
+        long rewardAmount
+    ) {
+        public static ExportJoinedHistoryItem from(AdInfo.JoinedHistory joinedHistory) {
+            return new ExportJoinedHistoryItem(
+                joinedHistory.id(),
+                joinedHistory.adId(),
+                joinedHistory.userId(),
+                joinedHistory.name(),
+                joinedHistory.joinedAt(),
+                joinedHistory.rewardAmount()
+            );
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson"),
+        CSV("text/csv"),
+        ;
+
+        private final String mediaType;
+
+        public static ExportFormat from(String format) {
+            return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(format))
+                .findFirst()
+                .orElseThrow(() -> new CoreException(ErrorType.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다."));
+        }
+
+        public String filename() {
+            return "ad-joined-histories." + name().toLowerCase();
+        }
+    }
 }
@@ -0,0 +1,349 @@
+package com.discphy.ad.application.ad;
+
+import com.discphy.ad.domain.ad.*;
+import com.discphy.ad.application.point.ResilientPointClient;
+import com.discphy.ad.domain.point.PointClient;
+import com.discphy.ad.domain.point.PointCommand;
+import com.discphy.ad.domain.user.User;
+import com.discphy.ad.infrastructure.ad.jpa.AdEventOutboxJpaRepository;
+import com.discphy.ad.infrastructure.ad.jpa.AdJpaRepository;
+import com.discphy.ad.infrastructure.user.jpa.UserJpaRepository;
+import com.discphy.ad.utils.ConcurrencyExecutor;
+import com.discphy.ad.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.*;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"ad.outbox.relay.batch-size=5", "ad.outbox.relay.max-attempts=2", "ad.outbox.relay.dispatch-timeout=1s"})
+class AdEventOutboxRelayTest {
+
+    @Autowired
+    private AdEventOutboxRelay adEventOutboxRelay;
+
+    @Autowired
+    private AdService adService;
+
+    @Autowired
+    private AdJpaRepository adJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private AdEventOutboxJpaRepository adEventOutboxJpaRepository;
+
+    @Autowired
+    private AdFacade adFacade;
+
+    @Autowired
+    private ResilientPointClient resilientPointClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @MockitoBean
+    private PointClient pointClient;
+
+    private Ad ad;
+
+    @BeforeEach
+    void setUp() {
+        ad = adJpaRepository.save(Ad.create(new AdCommand.Create(
+            "광고명",
+            1_000L,
+            100,
+            "광고 설명",
+            "https://example.com/image.jpg",
+            LocalDateTime.now().minusDays(1),
+            LocalDateTime.now().plusDays(1),
+            AdJoinConditionType.FIRST_JOIN,
+            null
+        )));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("광고 참여 시, ")
+    @Nested
+    class Join {
+
+        @DisplayName("참여 이력과 같은 트랜잭션에서 적립 이벤트를 아웃박스에 기록한다.")
+        @Test
+        void writeOutbox() {
+            // given
+            User user = userJpaRepository.save(User.create("사용자"));
+
+            // when
+            adService.join(ad.getId(), user);
+
+            // then
+            List<AdEventOutbox> outboxes = adEventOutboxJpaRepository.findAll();
+            assertThat(outboxes).hasSize(1);
+            assertThat(outboxes.getFirst().getStatus()).isEqualTo(AdEventOutboxStatus.PENDING);
+            assertThat(outboxes.getFirst().toJoined().userId()).isEqualTo(user.getId());
+            verify(pointClient, times(0)).rewardBatch(any());
+        }
+    }
+
+    @DisplayName("아웃박스 릴레이 시, ")
+    @Nested
+    class Relay {
+
+        @DisplayName("대기 중인 이벤트를 모두 적립 요청하고 발송 완료로 바꾼다.")
+        @Test
+        void relay() {
+            // given
+            List<User> users = givenJoinedUsers(12);
+
+            // when
+            adEventOutboxRelay.relay();
+
+            // then
+            assertThat(adEventOutboxJpaRepository.findAll())
+                .extracting(AdEventOutbox::getStatus)
+                .containsOnly(AdEventOutboxStatus.SENT);
+            assertThat(rewarded()).containsExactlyInAnyOrderElementsOf(adEventOutboxJpaRepository.findAll().stream()
+                .map(outbox -> PointCommand.Reward.of(outbox.toJoined().userId(), 1_000L, outbox.idempotencyKey()))
+                .toList());
+            assertThat(rewarded()).extracting(PointCommand.Reward::userId)
+                .containsExactlyInAnyOrderElementsOf(users.stream().map(User::getId).toList());
+        }
+
+        @DisplayName("점유 기한이 지나 다시 발송해도 같은 멱등 키로 적립 요청한다.")
+        @Test
+        void sameKeyOnRedelivery() {
+            // given
+            givenJoinedUsers(1);
+            doThrow(new IllegalStateException("포인트 API 오류"))
+                .doThrow(new IllegalStateException("포인트 API 오류"))
+                .doThrow(new IllegalStateException("포인트 API 오류")) // 재시도까지 모두 실패
+                .doReturn(List.of())
+                .when(pointClient).rewardBatch(any());
+            adEventOutboxRelay.relayBatch();
+            expireLease();
+
+            // when
+            adEventOutboxRelay.relayBatch();
+
+            // then
+            assertThat(rewarded()).extracting(PointCommand.Reward::idempotencyKey)
+                .containsOnly(adEventOutboxJpaRepository.findAll().getFirst().idempotencyKey());
+        }
+
+        @DisplayName("대기 시간 안에 적립 결과를 받지 못하면 발송 완료로 바꾸지 않고 점유 기한 이후 다시 발송한다.")
+        @Test
+        void keepPendingOnTimeout() {
+            // given
+            givenJoinedUsers(1);
+            doAnswer(invocation -> {
+                Thread.sleep(1_500);
+                return List.of();
+            }).when(pointClient).rewardBatch(any());
+
+            // when
+            int claimed = adEventOutboxRelay.relayBatch();
+
+            // then
+            AdEventOutbox outbox = adEventOutboxJpaRepository.findAll().getFirst();
+            assertThat(claimed).isEqualTo(1);
+            assertThat(outbox.getStatus()).isEqualTo(AdEventOutboxStatus.PENDING);
+            assertThat(outbox.getAttempts()).isEqualTo(1);
+            assertThat(outbox.getAvailableAt()).isAfter(LocalDateTime.now());
+        }
+
+        @DisplayName("대기 시간 안에 적립 결과를 받지 못한 발송도 시도로 세어 재시도 한도를 넘기면 발송 포기로 남긴다.")
+        @Test
+        void deadAfterMaxTimeouts() {
+            // given
+            givenJoinedUsers(1);
+            doAnswer(invocation -> {
+                Thread.sleep(1_500);
+                return List.of();
+            }).when(pointClient).rewardBatch(any());
+            adEventOutboxRelay.relayBatch();
+            expireLease();
+
+            // when
+            adEventOutboxRelay.relayBatch();
+
+            // then
+            AdEventOutbox outbox = adEventOutboxJpaRepository.findAll().getFirst();
+            assertThat(outbox.getStatus()).isEqualTo(AdEventOutboxStatus.DEAD);
+            assertThat(outbox.getAttempts()).isEqualTo(2);
+        }
+
+        @DisplayName("적립 요청에 실패한 이벤트는 점유 기한 전까지 다시 가져가지 않는다.")
+        @Test
+        void keepFailed() {
+            // given
+            givenJoinedUsers(1);
+            doThrow(new IllegalStateException("포인트 API 오류"))
+                .when(pointClient).rewardBatch(any());
+
+            // when
+            int first = adEventOutboxRelay.relayBatch();
+            int second = adEventOutboxRelay.relayBatch();
+
+            // then
+            AdEventOutbox outbox = adEventOutboxJpaRepository.findAll().getFirst();
+            assertThat(first).isEqualTo(1);
+            assertThat(second).isZero();
+            assertThat(outbox.getStatus()).isEqualTo(AdEventOutboxStatus.PENDING);
+            assertThat(outbox.getAttempts()).isEqualTo(1);
+            assertThat(outbox.getAvailableAt()).isAfter(LocalDateTime.now());
+        }
+
+        @DisplayName("일괄 적립 중 적립하지 못한 이벤트만 발송 대기로 남긴다.")
+        @Test
+        void keepOnlyRejected() {
+            // given
+            givenJoinedUsers(2);
+            AdEventOutbox rejected = adEventOutboxJpaRepository.findAll().getFirst();
+            when(pointClient.rewardBatch(any()))
+                .thenAnswer(invocation -> invocation.<List<PointCommand.Reward>>getArgument(0).stream()
+                    .filter(reward -> reward.idempotencyKey().equals(rejected.idempotencyKey()))
+                    .toList());
+
+            // when
+            adEventOutboxRelay.relayBatch();
+
+            // then
+            assertThat(adEventOutboxJpaRepository.findAll())
+                .allSatisfy(outbox -> assertThat(outbox.getStatus()).isEqualTo(
+                    outbox.getId().equals(rejected.getId()) ? AdEventOutboxStatus.PENDING : AdEventOutboxStatus.SENT
+                ));
+        }
+
+        @DisplayName("여러 릴레이가 동시에 가져가도 이벤트는 한 번만 발송한다.")
+        @Test
+        void relayOnceOnConcurrency() {
+            // given
+            givenJoinedUsers(20);
+
+            // when
+            ConcurrencyExecutor.executeConcurrency(4, adEventOutboxRelay::relay);
+
+            // then
+            assertThat(rewarded()).hasSize(20);
+            assertThat(adEventOutboxJpaRepository.findAll())
+                .extracting(AdEventOutbox::getStatus)
+                .containsOnly(AdEventOutboxStatus.SENT);
+        }
+
+        @DisplayName("재시도 한도를 넘긴 이벤트는 발송 포기로 남기고 다시 가져가지 않는다.")
+        @Test
+        void deadAfterMaxAttempts() {
+            // given
+            givenJoinedUsers(1);
+            doThrow(new IllegalStateException("포인트 API 오류"))
+                .when(pointClient).rewardBatch(any());
+            adEventOutboxRelay.relayBatch();
+            expireLease();
+
+            // when
+            adEventOutboxRelay.relayBatch();
+            expireLease();
+            resilientPointClient.reset();
+            int claimed = adEventOutboxRelay.relayBatch();
+
+            // then
+            AdEventOutbox outbox = adEventOutboxJpaRepository.findAll().getFirst();
+            assertThat(outbox.getStatus()).isEqualTo(AdEventOutboxStatus.DEAD);
+            assertThat(outbox.getAttempts()).isEqualTo(2);
+            assertThat(claimed).isZero();
+        }
+
+        @DisplayName("포인트 API 서킷이 열려 있으면 이벤트를 가져가지 않는다.")
+        @Test
+        void skipWhileCircuitOpen() {
+            // given
+            doThrow(new IllegalStateException("포인트 API 오류"))
+                .when(pointClient).rewardBatch(any());
+            for (int i = 0; i < 2; i++) {
+                assertThatThrownBy(() -> resilientPointClient.rewardBatch(List.of())).isInstanceOf(RuntimeException.class);
+            }
+            givenJoinedUsers(1);
+
+            // when
+            int claimed = adEventOutboxRelay.relayBatch();
+
+            // then
+            assertThat(claimed).isZero();
+            assertThat(adEventOutboxJpaRepository.findAll().getFirst().getAttempts()).isZero();
+        }
+    }
+
+    @DisplayName("발송 포기 이벤트 재발송 시, ")
+    @Nested
+    class Replay {
+
+        @DisplayName("발송 대기로 되돌리고 재시도 횟수를 초기화한다.")
+        @Test
+        void replay() {
+            // given
+            givenJoinedUsers(3);
+            List<Long> ids = adEventOutboxJpaRepository.findAll().stream().map(AdEventOutbox::getId).toList();
+            adEventOutboxJpaRepository.updateDead(ids);
+
+            // when
+            int replayed = adFacade.replayDeadOutboxes();
+
+            // then
+            assertThat(replayed).isEqualTo(3);
+            assertThat(adEventOutboxJpaRepository.findAll())
+                .allSatisfy(outbox -> {
+                    assertThat(outbox.getStatus()).isEqualTo(AdEventOutboxStatus.PENDING);
+                    assertThat(outbox.getAttempts()).isZero();
+                });
+        }
+    }
+
+    // 점유 기한을 기다리지 않고 다시 가져갈 수 있게 함
+    private void expireLease() {
+        jdbcTemplate.update("UPDATE ad_event_outbox SET available_at = ?", LocalDateTime.now().minusSeconds(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PointCommand.Reward> rewarded() {
+        ArgumentCaptor<List<PointCommand.Reward>> captor = ArgumentCaptor.forClass(List.class);
+        verify(pointClient, atLeastOnce()).rewardBatch(captor.capture());
+        return captor.getAllValues().stream()
+            .flatMap(List::stream)
+            .toList();
+    }
+
+    private List<User> givenJoinedUsers(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> {
+                User user = userJpaRepository.save(User.create("사용자" + i));
+                adService.join(ad.getId(), user);
+                return user;
+            })
+            .toList();
+    }
+}
@@ -0,0 +1,171 @@
+package com.discphy.ad.application.ad;
+
+import com.discphy.ad.domain.ad.*;
+import com.discphy.ad.domain.ad.inventory.AtomicUpdateInventory;
+import com.discphy.ad.domain.ad.inventory.PessimisticLockInventory;
+import com.discphy.ad.domain.point.PointClient;
+import com.discphy.ad.domain.user.User;
+import com.discphy.ad.infrastructure.ad.jpa.AdJoinedUserJpaRepository;
+import com.discphy.ad.infrastructure.ad.jpa.AdJpaRepository;
+import com.discphy.ad.infrastructure.user.jpa.UserJpaRepository;
+import com.discphy.ad.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.discphy.ad.utils.ConcurrencyExecutor.executeConcurrency;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.doReturn;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class AdFacadeAtomicUpdateConcurrencyTest {
+
+    @Autowired
+    private AdFacade adFacade;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private AdJpaRepository adJpaRepository;
+
+    @Autowired
+    private AdJoinedUserJpaRepository adJoinedUserJpaRepository;
+
+    @Autowired
+    private AtomicUpdateInventory atomicUpdateInventory;
+
+    @Autowired
+    private PessimisticLockInventory pessimisticLockInventory;
+
+    @MockitoSpyBean
+    private AdJoinInventoryStrategy adJoinInventoryStrategy;
+
+    @MockitoBean
+    private PointClient pointClient; // 포인트 API 지연이 참여 지연 시간에 섞이지 않도록 대체
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("조건부 원자적 차감으로 광고 참여 시, ")
+    @Nested
+    class Join {
+
+        @DisplayName("동시에 참여하더라도 참여 가능 횟수를 초과하여 참여할 수 없다.")
+        @Test
+        void cannotOversell() {
+            // given
+            doReturn(atomicUpdateInventory).when(adJoinInventoryStrategy).get();
+
+            Ad ad = saveAd("테스트 광고", 10);
+            List<User> users = saveUsers(30);
+
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger failCount = new AtomicInteger();
+
+            // when
+            executeConcurrency(users.stream()
+                .map(user -> (Runnable) () -> {
+                    try {
+                        adFacade.join(AdCommand.Join.of(ad.getId(), user.getId()));
+                        successCount.incrementAndGet();
+                    } catch (Exception e) {
+                        failCount.incrementAndGet();
+                    }
+                })
+                .toList());
+
+            // then
+            List<AdJoinedHistory> histories = adJoinedUserJpaRepository.findAll();
+            Ad updated = adJpaRepository.findById(ad.getId()).get();
+            assertAll(
+                () -> assertThat(successCount.get()).isEqualTo(10),
+                () -> assertThat(failCount.get()).isEqualTo(20),
+                () -> assertThat(histories).hasSize(10),
+                () -> assertThat(updated.getJoinCount()).isEqualTo(0)
+            );
+        }
+
+        @DisplayName("비관적 락 방식과 p99 참여 지연 시간을 비교한다.")
+        @Tag("benchmark")
+        @Test
+        void compareP99Latency() {
+            // given
+            Ad pessimisticAd = saveAd("비관적 락 광고", 100);
+            Ad atomicUpdateAd = saveAd("원자적 차감 광고", 100);
+
+            // when
+            doReturn(pessimisticLockInventory).when(adJoinInventoryStrategy).get();
+            long pessimisticP99 = p99(joinConcurrently(pessimisticAd, saveUsers(100)));
+
+            doReturn(atomicUpdateInventory).when(adJoinInventoryStrategy).get();
+            long atomicUpdateP99 = p99(joinConcurrently(atomicUpdateAd, saveUsers(100)));
+
+            // then
+            System.out.printf("p99 참여 지연 시간 - 비관적 락: %dms, 조건부 원자적 차감: %dms%n", pessimisticP99, atomicUpdateP99);
+            assertThat(adJpaRepository.findAll())
+                .extracting(Ad::getJoinCount)
+                .containsOnly(0);
+        }
+    }
+
+    private List<Long> joinConcurrently(Ad ad, List<User> users) {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+        executeConcurrency(users.stream()
+            .map(user -> (Runnable) () -> {
+                long startedAt = System.nanoTime();
+                adFacade.join(AdCommand.Join.of(ad.getId(), user.getId()));
+                latencies.add((System.nanoTime() - startedAt) / 1_000_000);
+            })
+            .toList());
+
+        return latencies;
+    }
+
+    private long p99(List<Long> latencies) {
+        List<Long> sorted = latencies.stream().sorted().toList();
+        return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+    }
+
+    private Ad saveAd(String name, int joinCount) {
+        return adJpaRepository.save(Ad.create(new AdCommand.Create(
+            name,
+            1_000L,
+            joinCount,
+            "광고 설명",
+            "https://example.com/image.jpg",
+            LocalDateTime.now(),
+            LocalDateTime.now().plusDays(1),
+            AdJoinConditionType.FIRST_JOIN,
+            null
+        )));
+    }
+
+    private List<User> saveUsers(int count) {
+        return userJpaRepository.saveAll(IntStream.range(0, count)
+            .mapToObj(i -> User.create("사용자" + i))
+            .toList());
+    }
+}
@@ -33,6 +33,9 @@ class AdFacadeIntegrationTest {
     @Autowired
     private AdJpaRepository adJpaRepository;
 
+    @Autowired
+    private AdCatalog adCatalog;
+
     @Autowired
     private AdJoinedUserJpaRepository adJoinedUserJpaRepository;
 
@@ -159,6 +162,7 @@ class AdFacadeIntegrationTest {
                 list.add(ad);
             }
             adJpaRepository.saveAll(list);
+            adCatalog.refresh();
 
             // when
             AdInfo.GetJoinAble info = adFacade.getJoinable(user.getId());
@@ -0,0 +1,151 @@
+package com.discphy.ad.application.ad;
+
+import com.discphy.ad.domain.ad.Ad;
+import com.discphy.ad.domain.ad.AdCommand;
+import com.discphy.ad.domain.ad.AdInventorySlot;
+import com.discphy.ad.domain.ad.AdJoinConditionType;
+import com.discphy.ad.domain.ad.AdSoldOutRegistry;
+import com.discphy.ad.domain.ad.AdStatus;
+import com.discphy.ad.domain.point.PointClient;
+import com.discphy.ad.domain.user.User;
+import com.discphy.ad.infrastructure.ad.jpa.AdInventorySlotJpaRepository;
+import com.discphy.ad.infrastructure.ad.jpa.AdJoinedUserJpaRepository;
+import com.discphy.ad.infrastructure.ad.jpa.AdJpaRepository;
+import com.discphy.ad.infrastructure.user.jpa.UserJpaRepository;
+import com.discphy.ad.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.discphy.ad.utils.ConcurrencyExecutor.executeConcurrency;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "ad.join.mode=SHARDED")
+class AdFacadeShardedConcurrencyTest {
+
+    @Autowired
+    private AdFacade adFacade;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private AdJpaRepository adJpaRepository;
+
+    @Autowired
+    private AdJoinedUserJpaRepository adJoinedUserJpaRepository;
+
+    @Autowired
+    private AdInventorySlotJpaRepository adInventorySlotJpaRepository;
+
+    @Autowired
+    private AdSoldOutRegistry adSoldOutRegistry;
+
+    @MockitoBean
+    private PointClient pointClient;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("참여 횟수 분산 슬롯으로 광고 참여 시, ")
+    @Nested
+    class Join {
+
+        @DisplayName("동시에 참여하더라도 참여 가능 횟수를 초과하여 참여할 수 없다.")
+        @Test
+        void cannotOversell() {
+            // given
+            Ad ad = saveAd("테스트 광고", 10, 4);
+            List<User> users = saveUsers(30);
+
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger failCount = new AtomicInteger();
+
+            // when
+            executeConcurrency(users.stream()
+                .map(user -> (Runnable) () -> {
+                    try {
+                        adFacade.join(AdCommand.Join.of(ad.getId(), user.getId()));
+                        successCount.incrementAndGet();
+                    } catch (Exception e) {
+                        failCount.incrementAndGet();
+                    }
+                })
+                .toList());
+
+            // then
+            List<AdInventorySlot> slots = adInventorySlotJpaRepository.findAll();
+            assertAll(
+                () -> assertThat(successCount.get()).isEqualTo(10),
+                () -> assertThat(failCount.get()).isEqualTo(20),
+                () -> assertThat(adJoinedUserJpaRepository.findAll()).hasSize(10),
+                () -> assertThat(slots).hasSize(4),
+                () -> assertThat(slots).extracting(AdInventorySlot::getRemaining).containsOnly(0),
+                () -> assertThat(adJpaRepository.findById(ad.getId())).get().extracting(Ad::getStatus).isEqualTo(AdStatus.SOLD_OUT),
+                () -> assertThat(adSoldOutRegistry.isSoldOut(ad.getId())).isTrue()
+            );
+        }
+
+        @DisplayName("슬롯 수에 따른 참여 처리량을 비교한다.")
+        @Tag("benchmark")
+        @Test
+        void compareThroughput() {
+            for (int slotCount : List.of(1, 2, 4, 8, 16)) {
+                // given
+                Ad ad = saveAd("슬롯 " + slotCount + "개 광고", Ad.MAX_JOIN_COUNT, slotCount);
+                List<User> users = saveUsers(Ad.MAX_JOIN_COUNT);
+                adFacade.join(AdCommand.Join.of(ad.getId(), users.get(0).getId())); // 슬롯 생성은 측정에서 제외
+
+                // when
+                long startedAt = System.nanoTime();
+                executeConcurrency(users.subList(1, users.size()).stream()
+                    .map(user -> (Runnable) () -> adFacade.join(AdCommand.Join.of(ad.getId(), user.getId())))
+                    .toList());
+                long elapsed = System.nanoTime() - startedAt;
+
+                // then
+                System.out.printf("슬롯 %2d개 - 처리량: %.1f건/s%n", slotCount, (users.size() - 1) * 1_000_000_000.0 / elapsed);
+                assertThat(adInventorySlotJpaRepository.sumRemainingByAdId(ad.getId())).isZero();
+            }
+        }
+    }
+
+    private Ad saveAd(String name, int joinCount, int inventorySlotCount) {
+        return adJpaRepository.save(Ad.create(new AdCommand.Create(
+            name,
+            1_000L,
+            joinCount,
+            "광고 설명",
+            "https://example.com/image.jpg",
+            LocalDateTime.now(),
+            LocalDateTime.now().plusDays(1),
+            AdJoinConditionType.FIRST_JOIN,
+            null,
+            inventorySlotCount
+        )));
+    }
+
+    private List<User> saveUsers(int count) {
+        return userJpaRepository.saveAll(IntStream.range(0, count)
+            .mapToObj(i -> User.create("사용자" + i))
+            .toList());
+    }
+}
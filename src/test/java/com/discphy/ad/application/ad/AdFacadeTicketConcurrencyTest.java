@@ -0,0 +1,169 @@
+package com.discphy.ad.application.ad;
+
+import com.discphy.ad.domain.ad.Ad;
+import com.discphy.ad.domain.ad.AdCommand;
+import com.discphy.ad.domain.ad.AdJoinTicket;
+import com.discphy.ad.domain.ad.AdJoinConditionType;
+import com.discphy.ad.domain.ad.AdSoldOutRegistry;
+import com.discphy.ad.domain.ad.AdStatus;
+import com.discphy.ad.domain.point.PointClient;
+import com.discphy.ad.domain.user.User;
+import com.discphy.ad.infrastructure.ad.jpa.AdJoinTicketJpaRepository;
+import com.discphy.ad.infrastructure.ad.jpa.AdJoinedUserJpaRepository;
+import com.discphy.ad.infrastructure.ad.jpa.AdJpaRepository;
+import com.discphy.ad.infrastructure.user.jpa.UserJpaRepository;
+import com.discphy.ad.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.discphy.ad.utils.ConcurrencyExecutor.executeConcurrency;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "ad.join.mode=TICKET")
+class AdFacadeTicketConcurrencyTest {
+
+    @Autowired
+    private AdFacade adFacade;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private AdJpaRepository adJpaRepository;
+
+    @Autowired
+    private AdJoinedUserJpaRepository adJoinedUserJpaRepository;
+
+    @Autowired
+    private AdJoinTicketJpaRepository adJoinTicketJpaRepository;
+
+    @Autowired
+    private AdSoldOutRegistry adSoldOutRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private PointClient pointClient;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("참여 티켓 선점으로 광고 참여 시, ")
+    @Nested
+    class Join {
+
+        @DisplayName("동시에 참여하더라도 참여 가능 횟수를 초과하여 참여할 수 없다.")
+        @Test
+        void cannotOversell() {
+            // given
+            Ad ad = saveAd("테스트 광고", 10);
+            List<User> users = saveUsers(30);
+
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger failCount = new AtomicInteger();
+
+            // when
+            executeConcurrency(users.stream()
+                .map(user -> (Runnable) () -> {
+                    try {
+                        adFacade.join(AdCommand.Join.of(ad.getId(), user.getId()));
+                        successCount.incrementAndGet();
+                    } catch (Exception e) {
+                        failCount.incrementAndGet();
+                    }
+                })
+                .toList());
+
+            // then
+            List<AdJoinTicket> tickets = adJoinTicketJpaRepository.findAll();
+            assertAll(
+                () -> assertThat(successCount.get()).isEqualTo(10),
+                () -> assertThat(failCount.get()).isEqualTo(20),
+                () -> assertThat(adJoinedUserJpaRepository.findAll()).hasSize(10),
+                () -> assertThat(tickets).hasSize(10),
+                () -> assertThat(tickets).extracting(AdJoinTicket::getClaimedAt).doesNotContainNull(),
+                () -> assertThat(tickets).extracting(AdJoinTicket::getUserId).doesNotHaveDuplicates(),
+                () -> assertThat(adJpaRepository.findById(ad.getId())).get().extracting(Ad::getStatus).isEqualTo(AdStatus.SOLD_OUT),
+                () -> assertThat(adSoldOutRegistry.isSoldOut(ad.getId())).isTrue()
+            );
+        }
+
+        @DisplayName("남은 티켓이 롤백될 참여에 잠겨 있으면 소진으로 실패하지 않고 기다렸다가 참여한다.")
+        @Test
+        void waitForLockedTicket() throws InterruptedException {
+            // given
+            Ad ad = saveAd("테스트 광고", 1);
+            adJoinTicketJpaRepository.saveAll(AdJoinTicket.issue(ad));
+            User user = saveUsers(1).getFirst();
+
+            CountDownLatch locked = new CountDownLatch(1);
+            CompletableFuture<Void> rolledBack = CompletableFuture.runAsync(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                adJoinTicketJpaRepository.findClaimableByAdId(ad.getId()); // 진행 중인 참여가 마지막 티켓을 잠근 상태
+                locked.countDown();
+                sleep(300);
+                status.setRollbackOnly();
+            }));
+            locked.await();
+
+            // when
+            adFacade.join(AdCommand.Join.of(ad.getId(), user.getId()));
+
+            // then
+            rolledBack.join();
+            assertThat(adJoinTicketJpaRepository.findAll())
+                .extracting(AdJoinTicket::getUserId)
+                .containsExactly(user.getId());
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Ad saveAd(String name, int joinCount) {
+        return adJpaRepository.save(Ad.create(new AdCommand.Create(
+            name,
+            1_000L,
+            joinCount,
+            "광고 설명",
+            "https://example.com/image.jpg",
+            LocalDateTime.now(),
+            LocalDateTime.now().plusDays(1),
+            AdJoinConditionType.FIRST_JOIN,
+            null
+        )));
+    }
+
+    private List<User> saveUsers(int count) {
+        return userJpaRepository.saveAll(IntStream.range(0, count)
+            .mapToObj(i -> User.create("사용자" + i))
+            .toList());
+    }
+}
@@ -11,16 +11,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -39,6 +48,21 @@ class AdFacadeUnitTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private AdJoinPipeline adJoinPipeline;
+
+    @Mock
+    private AdSoldOutRegistry adSoldOutRegistry;
+
+    @Mock
+    private AdJoinableCache adJoinableCache;
+
+    @Spy
+    private AdReadYourWrites adReadYourWrites = new AdReadYourWrites(Duration.ofSeconds(10));
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @DisplayName("광고 생성 시, ")
     @Nested
     class Create {
@@ -79,6 +103,22 @@ class AdFacadeUnitTest {
     @Nested
     class Join {
 
+        @DisplayName("소진되거나 종료된 광고는 사용자 조회 없이 실패한다.")
+        @Test
+        void closedAd() {
+            // given
+            AdCommand.Join command = new AdCommand.Join(1L, 1L);
+
+            when(adSoldOutRegistry.isClosed(any(), any()))
+                .thenReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> adFacade.join(command))
+                .isInstanceOf(CoreException.class)
+                .hasMessage("참여가 불가능합니다.");
+            verify(userService, never()).get(anyLong());
+        }
+
         @DisplayName("사용자가 존재하지 않으면 예외를 던진다.")
         @Test
         void notExistUser() {
@@ -187,7 +227,12 @@ class AdFacadeUnitTest {
                 .id(1L)
                 .name("사용자명")
                 .build();
-            when(adService.getJoinable(anyLong(), any(LocalDateTime.class)))
+            givenCacheMiss();
+            when(adService.getJoinProfile(user.getId()))
+                .thenReturn(UserJoinProfile.empty());
+            when(adService.findEligibilitySignature(UserJoinProfile.empty()))
+                .thenReturn(Optional.empty());
+            when(adService.getJoinable(any(UserJoinProfile.class), any(LocalDateTime.class), eq(AdFacade.GET_JOINABLE_MAX_SIZE)))
                 .thenReturn(List.of(
                     createAd("광고1"),
                     createAd("광고2"),
@@ -209,6 +254,51 @@ class AdFacadeUnitTest {
             assertThat(info.items()).hasSize(10);
         }
 
+        @DisplayName("캐시에 적중하면 광고를 다시 조회하지 않는다.")
+        @Test
+        void cacheHit() {
+            // given
+            AdInfo.GetJoinAble cached = AdInfo.GetJoinAble.from(List.of());
+
+            when(adJoinableCache.get(eq(1L), any()))
+                .thenReturn(cached);
+
+            // when
+            AdInfo.GetJoinAble info = adFacade.getJoinable(1L);
+
+            // then
+            assertThat(info).isSameAs(cached);
+            verify(adService, never()).getJoinProfile(anyLong());
+        }
+
+        @DisplayName("참여 조건 정보가 같은 사용자와 목록을 공유한다.")
+        @Test
+        void shareBySignature() {
+            // given
+            AdEligibilitySignature signature = new AdEligibilitySignature(1L, true, 0, List.of());
+            AdInfo.GetJoinAble shared = AdInfo.GetJoinAble.from(List.of());
+
+            givenCacheMiss();
+            when(adService.getJoinProfile(1L))
+                .thenReturn(UserJoinProfile.empty());
+            when(adService.findEligibilitySignature(UserJoinProfile.empty()))
+                .thenReturn(Optional.of(signature));
+            when(adJoinableCache.getShared(eq(signature), any()))
+                .thenReturn(shared);
+
+            // when
+            AdInfo.GetJoinAble info = adFacade.getJoinable(1L);
+
+            // then
+            assertThat(info).isSameAs(shared);
+            verify(adService, never()).getJoinable(any(UserJoinProfile.class), any(LocalDateTime.class), eq(AdFacade.GET_JOINABLE_MAX_SIZE));
+        }
+
+        private void givenCacheMiss() {
+            when(adJoinableCache.get(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<AdInfo.GetJoinAble>>getArgument(1).get());
+        }
+
         private Ad createAd(String name) {
             AdCommand.Create command = new AdCommand.Create(
                 name,
@@ -244,12 +334,12 @@ class AdFacadeUnitTest {
                 .name("사용자명")
                 .build();
 
-            List<AdJoinedHistory> histories = List.of(
-                AdJoinedHistory.create(createAd("광고1"), user, LocalDateTime.now()),
-                AdJoinedHistory.create(createAd("광고2"), user, LocalDateTime.now())
+            List<AdInfo.JoinedHistory> histories = List.of(
+                AdInfo.JoinedHistory.from(AdJoinedHistory.create(createAd("광고1"), user, LocalDateTime.now())),
+                AdInfo.JoinedHistory.from(AdJoinedHistory.create(createAd("광고2"), user, LocalDateTime.now()))
             );
 
-            when(adService.getJoinedHistories(command))
+            when(adService.getJoinedHistoryInfos(command))
                 .thenReturn(histories);
 
             // when
@@ -260,6 +350,28 @@ class AdFacadeUnitTest {
             assertThat(info.page()).isEqualTo(page);
             assertThat(info.size()).isEqualTo(size);
             assertThat(info.histories()).hasSize(2);
+            assertThat(info.nextCursor()).isNull();
+        }
+
+        @DisplayName("조회한 이력이 페이지 크기만큼 있으면 마지막 이력 이후의 커서를 반환한다.")
+        @Test
+        void nextCursor() {
+            // given
+            AdCommand.JoinedHistoriesQuery command = AdCommand.JoinedHistoriesQuery.of(1L, 1, 2);
+            LocalDateTime joinedAt = LocalDateTime.now();
+
+            when(adService.getJoinedHistoryInfos(command))
+                .thenReturn(List.of(
+                    new AdInfo.JoinedHistory(1L, 1L, 1L, "광고1", joinedAt.minusMinutes(1), 1_000L),
+                    new AdInfo.JoinedHistory(2L, 2L, 1L, "광고2", joinedAt, 1_000L)
+                ));
+
+            // when
+            AdInfo.GetJoinedHistories info = adFacade.getJoinedHistories(command);
+
+            // then
+            assertThat(AdJoinedHistoryCursor.decode(info.nextCursor()))
+                .isEqualTo(new AdJoinedHistoryCursor(joinedAt, 2L));
         }
 
         private Ad createAd(String name) {
@@ -0,0 +1,137 @@
+package com.discphy.ad.application.ad;
+
+import com.discphy.ad.domain.ad.Ad;
+import com.discphy.ad.domain.ad.AdCommand;
+import com.discphy.ad.domain.ad.AdJoinConditionType;
+import com.discphy.ad.domain.ad.AdJoinedHistory;
+import com.discphy.ad.domain.point.PointClient;
+import com.discphy.ad.domain.user.User;
+import com.discphy.ad.infrastructure.ad.jpa.AdJoinedUserJpaRepository;
+import com.discphy.ad.infrastructure.ad.jpa.AdJpaRepository;
+import com.discphy.ad.infrastructure.user.jpa.UserJpaRepository;
+import com.discphy.ad.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.discphy.ad.utils.ConcurrencyExecutor.executeConcurrency;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "ad.join.pipeline.enabled=true")
+class AdJoinPipelineConcurrencyTest {
+
+    @Autowired
+    private AdFacade adFacade;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private AdJpaRepository adJpaRepository;
+
+    @Autowired
+    private AdJoinedUserJpaRepository adJoinedUserJpaRepository;
+
+    @MockitoBean
+    private PointClient pointClient;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("참여 파이프라인으로 광고 참여 시, ")
+    @Nested
+    class Join {
+
+        @DisplayName("동시에 참여하더라도 참여 가능 횟수를 초과하여 참여할 수 없다.")
+        @Test
+        void cannotOversell() {
+            // given
+            Ad ad = adJpaRepository.save(Ad.create(new AdCommand.Create(
+                "테스트 광고",
+                1_000L,
+                10,
+                "광고 설명",
+                "https://example.com/image.jpg",
+                LocalDateTime.now(),
+                LocalDateTime.now().plusDays(1),
+                AdJoinConditionType.FIRST_JOIN,
+                null
+            )));
+            List<User> users = userJpaRepository.saveAll(IntStream.range(0, 50)
+                .mapToObj(i -> User.create("사용자" + i))
+                .toList());
+
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger failCount = new AtomicInteger();
+
+            // when
+            executeConcurrency(users.stream()
+                .map(user -> (Runnable) () -> {
+                    try {
+                        adFacade.join(AdCommand.Join.of(ad.getId(), user.getId()));
+                        successCount.incrementAndGet();
+                    } catch (Exception e) {
+                        failCount.incrementAndGet();
+                    }
+                })
+                .toList());
+
+            // then
+            List<AdJoinedHistory> histories = adJoinedUserJpaRepository.findAll();
+            Ad updated = adJpaRepository.findById(ad.getId()).get();
+            assertAll(
+                () -> assertThat(successCount.get()).isEqualTo(10),
+                () -> assertThat(failCount.get()).isEqualTo(40),
+                () -> assertThat(histories).hasSize(10),
+                () -> assertThat(updated.getJoinCount()).isEqualTo(0)
+            );
+        }
+
+        @DisplayName("같은 사용자가 동시에 여러 번 참여하더라도 첫 참여 조건은 한 번만 만족한다.")
+        @Test
+        void sameUserInBatch() {
+            // given
+            Ad ad = adJpaRepository.save(Ad.create(new AdCommand.Create(
+                "테스트 광고",
+                1_000L,
+                10,
+                "광고 설명",
+                "https://example.com/image.jpg",
+                LocalDateTime.now(),
+                LocalDateTime.now().plusDays(1),
+                AdJoinConditionType.FIRST_JOIN,
+                null
+            )));
+            User user = userJpaRepository.save(User.create("사용자"));
+
+            AtomicInteger successCount = new AtomicInteger();
+
+            // when
+            executeConcurrency(5, () -> {
+                adFacade.join(AdCommand.Join.of(ad.getId(), user.getId()));
+                successCount.incrementAndGet();
+            });
+
+            // then
+            assertThat(successCount.get()).isEqualTo(1);
+            assertThat(adJoinedUserJpaRepository.findAll()).hasSize(1);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.discphy.ad.application.ad;
+
+import com.discphy.ad.domain.ad.AdJoinMode;
+import com.discphy.ad.domain.ad.AdService;
+import com.discphy.ad.domain.user.User;
+import com.discphy.ad.exception.CoreException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class AdJoinPipelineUnitTest {
+
+    private final AdService adService = mock(AdService.class);
+
+    @DisplayName("파이프라인 생성 시, ")
+    @Nested
+    class Create {
+
+        @DisplayName("PESSIMISTIC_LOCK 이 아닌 참여 방식에서는 사용할 수 없다.")
+        @Test
+        void rejectOtherMode() {
+            // when & then
+            assertThatThrownBy(() -> new AdJoinPipeline(adService, true, 1, 10, Duration.ofSeconds(1), AdJoinMode.LEDGER))
+                .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @DisplayName("파이프라인 참여 시, ")
+    @Nested
+    class Join {
+
+        @DisplayName("대기 시간이 지나면 실패한다.")
+        @Test
+        void timeout() throws InterruptedException {
+            // given
+            CountDownLatch latch = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                latch.await();
+                return null;
+            }).when(adService).joinAll(anyLong(), any());
+            AdJoinPipeline pipeline = new AdJoinPipeline(adService, true, 1, 10, Duration.ofMillis(100), AdJoinMode.PESSIMISTIC_LOCK);
+
+            // when & then
+            assertThatThrownBy(() -> pipeline.join(1L, User.create("사용자")))
+                .isInstanceOf(CoreException.class)
+                .hasMessage("참여 요청 처리 시간이 초과되었습니다.");
+
+            latch.countDown();
+            pipeline.close();
+        }
+
+        @DisplayName("종료 시 처리하지 못한 요청은 실패로 완료된다.")
+        @Test
+        void rejectPendingOnClose() throws InterruptedException {
+            // given
+            AdJoinPipeline pipeline = new AdJoinPipeline(adService, true, 1, 10, Duration.ofSeconds(1), AdJoinMode.PESSIMISTIC_LOCK);
+            pipeline.close();
+
+            // when
+            CompletableFuture<?> future = pipeline.submit(1L, User.create("사용자"));
+
+            // then
+            assertThat(future).isCompletedExceptionally();
+        }
+    }
+}
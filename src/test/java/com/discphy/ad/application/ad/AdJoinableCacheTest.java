@@ -0,0 +1,156 @@
+package com.discphy.ad.application.ad;
+
+import com.discphy.ad.domain.ad.AdCatalog;
+import com.discphy.ad.domain.ad.AdEligibilitySignature;
+import com.discphy.ad.domain.ad.AdEvent;
+import com.discphy.ad.domain.ad.AdInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdJoinableCacheTest {
+
+    @Mock
+    private AdCatalog adCatalog;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdJoinableCache adJoinableCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adJoinableCache = new AdJoinableCache(adCatalog, meterRegistry, 100L, 10L, Duration.ofMinutes(1));
+    }
+
+    @DisplayName("참여 가능한 광고 캐시 조회 시, ")
+    @Nested
+    class Get {
+
+        @DisplayName("같은 사용자는 카탈로그가 바뀌기 전까지 한 번만 조회한다.")
+        @Test
+        void loadOnce() {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+            when(adCatalog.version())
+                .thenReturn(1L);
+
+            // when
+            adJoinableCache.get(1L, loader(loadCount));
+            adJoinableCache.get(1L, loader(loadCount));
+            adJoinableCache.get(2L, loader(loadCount));
+
+            // then
+            assertThat(loadCount.get()).isEqualTo(2);
+            assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(2);
+        }
+
+        @DisplayName("카탈로그 버전이 바뀌면 다시 조회한다.")
+        @Test
+        void reloadOnCatalogChanged() {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+            when(adCatalog.version())
+                .thenReturn(1L, 2L);
+
+            // when
+            adJoinableCache.get(1L, loader(loadCount));
+            adJoinableCache.get(1L, loader(loadCount));
+
+            // then
+            assertThat(loadCount.get()).isEqualTo(2);
+        }
+    }
+
+    @DisplayName("참여 조건 정보가 같은 사용자의 목록 조회 시, ")
+    @Nested
+    class GetShared {
+
+        @DisplayName("같은 서명의 목록은 한 번만 조회하여 공유한다.")
+        @Test
+        void shareSameSignature() {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+            AdEligibilitySignature newUser = new AdEligibilitySignature(1L, true, 0, List.of());
+            AdEligibilitySignature joinedUser = new AdEligibilitySignature(1L, false, 1, List.of(10L));
+
+            // when
+            AdInfo.GetJoinAble first = adJoinableCache.getShared(newUser, loader(loadCount));
+            AdInfo.GetJoinAble second = adJoinableCache.getShared(new AdEligibilitySignature(1L, true, 0, List.of()), loader(loadCount));
+            adJoinableCache.getShared(joinedUser, loader(loadCount));
+
+            // then
+            assertThat(second).isSameAs(first);
+            assertThat(loadCount.get()).isEqualTo(2);
+        }
+    }
+
+    @DisplayName("광고 참여 완료 시, ")
+    @Nested
+    class Evict {
+
+        @DisplayName("참여한 사용자의 캐시만 무효화한다.")
+        @Test
+        void evictJoinedUser() {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+            when(adCatalog.version())
+                .thenReturn(1L);
+
+            adJoinableCache.get(1L, loader(loadCount));
+            adJoinableCache.get(2L, loader(loadCount));
+
+            // when
+            adJoinableCache.evict(new AdEvent.Joined(10L, 1L, 1_000L, LocalDateTime.now()));
+            adJoinableCache.get(1L, loader(loadCount));
+            adJoinableCache.get(2L, loader(loadCount));
+
+            // then
+            assertThat(loadCount.get()).isEqualTo(3);
+        }
+
+        @DisplayName("참여 커밋 이전에 시작한 조회 결과는 무효화 이후 다시 사용하지 않는다.")
+        @Test
+        void discardLoadStartedBeforeCommit() {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+            when(adCatalog.version())
+                .thenReturn(1L);
+
+            adJoinableCache.get(1L, () -> {
+                loadCount.incrementAndGet();
+                adJoinableCache.evict(new AdEvent.Joined(10L, 1L, 1_000L, LocalDateTime.now())); // 조회 중 커밋된 참여
+                return AdInfo.GetJoinAble.from(List.of());
+            });
+
+            // when
+            adJoinableCache.get(1L, loader(loadCount));
+            adJoinableCache.get(1L, loader(loadCount));
+
+            // then
+            assertThat(loadCount.get()).isEqualTo(2);
+        }
+    }
+
+    private Supplier<AdInfo.GetJoinAble> loader(AtomicInteger loadCount) {
+        return () -> {
+            loadCount.incrementAndGet();
+            return AdInfo.GetJoinAble.from(List.of());
+        };
+    }
+}
@@ -1,7 +1,6 @@
 package com.discphy.ad.application.point;
 
 import com.discphy.ad.domain.ad.AdEvent;
-import com.discphy.ad.domain.point.PointClient;
 import com.discphy.ad.domain.point.PointCommand;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,7 +12,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,13 +21,13 @@ class PointEventListenerUnitTest {
     private PointEventListener pointEventListener;
 
     @Mock
-    private PointClient pointClient;
+    private PointRewardDispatcher pointRewardDispatcher;
 
     @DisplayName("광고 참여 이벤트 수신 시, ")
     @Nested
     class Joined {
 
-        @DisplayName("포인트 지급 요청을 한다.")
+        @DisplayName("포인트 지급 요청을 일괄 적립 대기열에 넣는다.")
         @Test
         void handle() {
             // given
@@ -41,10 +39,10 @@ class PointEventListenerUnitTest {
             );
 
             // when
-            pointEventListener.handle(event);
+            pointEventListener.handle("ad-event-outbox:1", event);
 
             // then
-            verify(pointClient).reward(any(PointCommand.Reward.class));
+            verify(pointRewardDispatcher).submit(PointCommand.Reward.of(1L, 100L, "ad-event-outbox:1"));
         }
     }
 }
\ No newline at end of file
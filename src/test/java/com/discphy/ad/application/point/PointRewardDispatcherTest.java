@@ -0,0 +1,173 @@
+package com.discphy.ad.application.point;
+
+import com.discphy.ad.domain.point.PointCommand;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PointRewardDispatcherTest {
+
+    private final ResilientPointClient pointClient = mock(ResilientPointClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointRewardDispatcher pointRewardDispatcher = new PointRewardDispatcher(pointClient, meterRegistry, 10, Duration.ofMillis(50), 2, Duration.ofSeconds(5), Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pointRewardDispatcher.close();
+    }
+
+    @DisplayName("적립 요청 시, ")
+    @Nested
+    class Submit {
+
+        @DisplayName("배치 크기만큼 모이면 한 번의 일괄 적립으로 보낸다.")
+        @Test
+        void flushOnSize() {
+            // given
+            List<CompletableFuture<Void>> futures = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> pointRewardDispatcher.submit(PointCommand.Reward.of((long) i, 100L, "key-" + i)))
+                .toList();
+
+            // when
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+            // then
+            verify(pointClient, times(1)).rewardBatch(argThat(rewards -> rewards.size() == 10));
+            assertThat(meterRegistry.get("point.reward.batch.size").summary().totalAmount()).isEqualTo(10);
+        }
+
+        @DisplayName("배치 크기를 채우지 못해도 대기 시간이 지나면 모인 만큼 보낸다.")
+        @Test
+        void flushOnWindow() {
+            // given
+            CompletableFuture<Void> future = pointRewardDispatcher.submit(PointCommand.Reward.of(1L, 100L, "key-1"));
+
+            // when
+            future.join();
+
+            // then
+            verify(pointClient).rewardBatch(List.of(PointCommand.Reward.of(1L, 100L, "key-1")));
+        }
+
+        @DisplayName("같은 사용자의 적립도 합산하지 않고 멱등 키별로 각각 보낸다.")
+        @Test
+        @SuppressWarnings("unchecked")
+        void keepEachReward() throws InterruptedException {
+            // given
+            PointRewardDispatcher dispatcher = new PointRewardDispatcher(pointClient, meterRegistry, 3, Duration.ofSeconds(10), 1, Duration.ofSeconds(5), Duration.ofSeconds(5)); // 대기 시간에 나뉘지 않도록 크기로만 보냄
+            List<PointCommand.Reward> rewards = List.of(
+                PointCommand.Reward.of(1L, 100L, "key-1"),
+                PointCommand.Reward.of(2L, 200L, "key-2"),
+                PointCommand.Reward.of(1L, 300L, "key-3")
+            );
+            List<CompletableFuture<Void>> futures = rewards.stream()
+                .map(dispatcher::submit)
+                .toList();
+
+            // when
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            dispatcher.close();
+
+            // then
+            ArgumentCaptor<List<PointCommand.Reward>> captor = ArgumentCaptor.forClass(List.class);
+            verify(pointClient).rewardBatch(captor.capture());
+            assertThat(captor.getValue()).containsExactlyInAnyOrderElementsOf(rewards);
+        }
+
+        @DisplayName("일괄 적립에 실패하면 묶인 요청 모두 실패로 완료된다.")
+        @Test
+        void failAll() {
+            // given
+            doThrow(new IllegalStateException("포인트 API 오류")).when(pointClient).rewardBatch(any());
+
+            // when
+            CompletableFuture<Void> first = pointRewardDispatcher.submit(PointCommand.Reward.of(1L, 100L, "key-1"));
+            CompletableFuture<Void> second = pointRewardDispatcher.submit(PointCommand.Reward.of(2L, 100L, "key-2"));
+
+            // then
+            assertThat(first).failsWithin(Duration.ofSeconds(1));
+            assertThat(second).failsWithin(Duration.ofSeconds(1));
+        }
+
+        @DisplayName("일부 건만 적립하지 못하면 해당 요청만 실패로 완료된다.")
+        @Test
+        void failOnlyRejected() throws InterruptedException {
+            // given
+            PointRewardDispatcher dispatcher = new PointRewardDispatcher(pointClient, meterRegistry, 2, Duration.ofSeconds(10), 1, Duration.ofSeconds(5), Duration.ofSeconds(5)); // 대기 시간에 나뉘지 않도록 크기로만 보냄
+            PointCommand.Reward applied = PointCommand.Reward.of(1L, 100L, "key-1");
+            PointCommand.Reward rejected = PointCommand.Reward.of(2L, 100L, "key-2");
+            when(pointClient.rewardBatch(any())).thenReturn(List.of(rejected));
+
+            // when
+            CompletableFuture<Void> first = dispatcher.submit(applied);
+            CompletableFuture<Void> second = dispatcher.submit(rejected);
+
+            // then
+            assertThat(first).succeedsWithin(Duration.ofSeconds(1));
+            assertThat(second).failsWithin(Duration.ofSeconds(1));
+            dispatcher.close();
+        }
+
+        @DisplayName("포인트 API 동시 호출 수는 설정한 값을 넘지 않는다.")
+        @Test
+        void limitConcurrency() {
+            // given
+            CountDownLatch latch = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                latch.await();
+                return List.of();
+            }).when(pointClient).rewardBatch(any());
+
+            // when
+            List<CompletableFuture<Void>> futures = IntStream.rangeClosed(1, 30)
+                .mapToObj(i -> pointRewardDispatcher.submit(PointCommand.Reward.of((long) i, 100L, "key-" + i)))
+                .toList();
+
+            // then
+            verify(pointClient, after(300).times(2)).rewardBatch(any());
+            assertThat(meterRegistry.get("point.reward.in-flight").gauge().value()).isEqualTo(2);
+
+            latch.countDown();
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            assertThat(meterRegistry.get("point.reward.in-flight").gauge().value()).isZero();
+        }
+    }
+
+    @DisplayName("종료 시, ")
+    @Nested
+    class Close {
+
+        @DisplayName("대기 중인 적립과 응답을 기다리는 적립을 모두 보낸 뒤 종료한다.")
+        @Test
+        void drain() throws InterruptedException {
+            // given
+            doAnswer(invocation -> {
+                Thread.sleep(200);
+                return List.of();
+            }).when(pointClient).rewardBatch(any());
+            PointRewardDispatcher dispatcher = new PointRewardDispatcher(pointClient, meterRegistry, 10, Duration.ofSeconds(10), 2, Duration.ofSeconds(5), Duration.ofSeconds(5));
+            List<CompletableFuture<Void>> futures = IntStream.rangeClosed(1, 15)
+                .mapToObj(i -> dispatcher.submit(PointCommand.Reward.of((long) i, 100L, "key-" + i)))
+                .toList();
+
+            // when
+            dispatcher.close();
+
+            // then
+            assertThat(futures).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+        }
+    }
+}
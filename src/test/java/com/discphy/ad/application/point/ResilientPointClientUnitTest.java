@@ -0,0 +1,110 @@
+package com.discphy.ad.application.point;
+
+import com.discphy.ad.domain.point.PointClient;
+import com.discphy.ad.domain.point.PointCommand;
+import com.discphy.ad.exception.CoreException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ResilientPointClientUnitTest {
+
+    private final PointClient pointClient = mock(PointClient.class);
+    private final ResilientPointClient resilientPointClient = new ResilientPointClient(
+        pointClient, new SimpleMeterRegistry(), 3, Duration.ofMillis(1), Duration.ofMillis(1), 5, Duration.ofMinutes(1)
+    );
+    private final List<PointCommand.Reward> rewards = List.of(PointCommand.Reward.of(1L, 100L, "key-1"));
+
+    @AfterEach
+    void tearDown() {
+        Thread.interrupted(); // 다른 테스트에 중단 상태가 남지 않도록 비움
+    }
+
+    @DisplayName("일괄 적립 요청 시, ")
+    @Nested
+    class RewardBatch {
+
+        @DisplayName("일시적으로 실패하면 재시도하여 보낸다.")
+        @Test
+        void retryOnFailure() {
+            // given
+            doThrow(new IllegalStateException("포인트 API 오류"))
+                .doReturn(List.of())
+                .when(pointClient).rewardBatch(any());
+
+            // when
+            resilientPointClient.rewardBatch(rewards);
+
+            // then
+            verify(pointClient, times(2)).rewardBatch(rewards);
+        }
+
+        @DisplayName("재시도 횟수를 넘기면 마지막 예외를 던진다.")
+        @Test
+        void giveUpAfterMaxAttempts() {
+            // given
+            doThrow(new IllegalStateException("포인트 API 오류")).when(pointClient).rewardBatch(any());
+
+            // when & then
+            assertThatThrownBy(() -> resilientPointClient.rewardBatch(rewards))
+                .isInstanceOf(IllegalStateException.class);
+            verify(pointClient, times(3)).rewardBatch(rewards);
+        }
+
+        @DisplayName("멱등 키가 없는 적립은 중복 적립되지 않도록 재시도하지 않는다.")
+        @Test
+        void noRetryWithoutIdempotencyKey() {
+            // given
+            List<PointCommand.Reward> withoutKey = List.of(PointCommand.Reward.of(1L, 100L, null));
+            doThrow(new IllegalStateException("포인트 API 오류")).when(pointClient).rewardBatch(any());
+
+            // when & then
+            assertThatThrownBy(() -> resilientPointClient.rewardBatch(withoutKey))
+                .isInstanceOf(IllegalStateException.class);
+            verify(pointClient, times(1)).rewardBatch(withoutKey);
+        }
+
+        @DisplayName("서킷이 열리면 포인트 API 를 호출하지 않고 바로 실패한다.")
+        @Test
+        void failFastOnOpen() {
+            // given
+            doThrow(new IllegalStateException("포인트 API 오류")).when(pointClient).rewardBatch(any());
+            assertThatThrownBy(() -> resilientPointClient.rewardBatch(rewards)).isInstanceOf(IllegalStateException.class);
+            assertThatThrownBy(() -> resilientPointClient.rewardBatch(rewards)).isInstanceOf(CoreException.class); // 다섯 번째 실패에서 서킷이 열림
+            clearInvocations(pointClient);
+
+            // when & then
+            assertThatThrownBy(() -> resilientPointClient.rewardBatch(rewards))
+                .isInstanceOf(CoreException.class);
+            verify(pointClient, never()).rewardBatch(any());
+            assertThat(resilientPointClient.isAvailable()).isFalse();
+        }
+
+        @DisplayName("호출 스레드가 중단되면 재시도하지 않고 중단 상태를 유지한다.")
+        @Test
+        void keepInterrupted() {
+            // given
+            doAnswer(invocation -> {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("포인트 적립 요청이 중단되었습니다.");
+            }).when(pointClient).rewardBatch(any());
+
+            // when & then
+            assertThatThrownBy(() -> resilientPointClient.rewardBatch(rewards))
+                .isInstanceOf(IllegalStateException.class);
+            verify(pointClient, times(1)).rewardBatch(rewards);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+            assertThat(resilientPointClient.isAvailable()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.discphy.ad.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(3, Duration.ofNanos(100), now::get);
+
+    @DisplayName("호출 실패 시, ")
+    @Nested
+    class Failure {
+
+        @DisplayName("연속 실패가 임계치에 닿으면 서킷을 열고 호출을 막는다.")
+        @Test
+        void openOnThreshold() {
+            // given
+            failTimes(3);
+
+            // when
+            boolean acquired = circuitBreaker.tryAcquire();
+
+            // then
+            assertThat(acquired).isFalse();
+            assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        }
+
+        @DisplayName("중간에 성공하면 실패 횟수를 처음부터 센다.")
+        @Test
+        void resetOnSuccess() {
+            // given
+            failTimes(2);
+            circuitBreaker.onSuccess();
+
+            // when
+            failTimes(2);
+
+            // then
+            assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+            assertThat(circuitBreaker.tryAcquire()).isTrue();
+        }
+    }
+
+    @DisplayName("서킷이 열린 뒤, ")
+    @Nested
+    class HalfOpen {
+
+        @DisplayName("대기 시간이 지나면 한 번의 시험 호출만 보낸다.")
+        @Test
+        void singleTrial() {
+            // given
+            failTimes(3);
+            now.addAndGet(100);
+
+            // when
+            boolean first = circuitBreaker.tryAcquire();
+            boolean second = circuitBreaker.tryAcquire();
+
+            // then
+            assertThat(first).isTrue();
+            assertThat(second).isFalse();
+            assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        }
+
+        @DisplayName("시험 호출이 성공하면 서킷을 닫는다.")
+        @Test
+        void closeOnTrialSuccess() {
+            // given
+            failTimes(3);
+            now.addAndGet(100);
+            circuitBreaker.tryAcquire();
+
+            // when
+            circuitBreaker.onSuccess();
+
+            // then
+            assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+
+        @DisplayName("시험 호출이 실패하면 다시 대기 시간만큼 서킷을 연다.")
+        @Test
+        void reopenOnTrialFailure() {
+            // given
+            failTimes(3);
+            now.addAndGet(100);
+            circuitBreaker.tryAcquire();
+
+            // when
+            circuitBreaker.onFailure();
+
+            // then
+            assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+            assertThat(circuitBreaker.isCallPermitted()).isFalse();
+        }
+    }
+
+    private void failTimes(int count) {
+        for (int i = 0; i < count; i++) {
+            circuitBreaker.tryAcquire();
+            circuitBreaker.onFailure();
+        }
+    }
+}
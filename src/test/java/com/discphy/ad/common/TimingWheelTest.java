@@ -0,0 +1,98 @@
+package com.discphy.ad.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    @DisplayName("작업 예약 시, ")
+    @Nested
+    class Schedule {
+
+        @DisplayName("이미 지난 시각이면 예약하지 않는다.")
+        @Test
+        void pastDeadline() {
+            // given
+            TimingWheel<String> wheel = new TimingWheel<>(1, 60, 1_000);
+
+            // when
+            boolean scheduled = wheel.schedule(1_000, "작업");
+
+            // then
+            assertThat(scheduled).isFalse();
+            assertThat(wheel.size()).isZero();
+        }
+    }
+
+    @DisplayName("시각 진행 시, ")
+    @Nested
+    class Advance {
+
+        @DisplayName("만료 시각이 된 작업만 실행한다.")
+        @Test
+        void fireAtDeadline() {
+            // given
+            TimingWheel<String> wheel = new TimingWheel<>(1, 60, 1_000);
+            wheel.schedule(1_010, "10초 후");
+            wheel.schedule(1_030, "30초 후");
+            List<String> fired = new ArrayList<>();
+
+            // when
+            wheel.advance(1_009, fired::add);
+            List<String> before = List.copyOf(fired);
+            wheel.advance(1_010, fired::add);
+
+            // then
+            assertThat(before).isEmpty();
+            assertThat(fired).containsExactly("10초 후");
+            assertThat(wheel.size()).isEqualTo(1);
+        }
+
+        @DisplayName("상위 휠에 예약된 작업도 하위 휠로 내려와 만료 시각에 실행한다.")
+        @Test
+        void cascadeFromOverflow() {
+            // given
+            long startAt = 1_000;
+            long deadline = startAt + 2 * 24 * 60 * 60 + 59; // 1초 x 60 휠 기준 세 단계 위
+            TimingWheel<String> wheel = new TimingWheel<>(1, 60, startAt);
+            wheel.schedule(deadline, "이틀 후");
+            List<String> fired = new ArrayList<>();
+
+            // when
+            for (long now = startAt; now < deadline; now += 60) {
+                wheel.advance(now, fired::add);
+            }
+            wheel.advance(deadline - 1, fired::add);
+            List<String> before = List.copyOf(fired);
+            wheel.advance(deadline, fired::add);
+
+            // then
+            assertThat(before).isEmpty();
+            assertThat(fired).containsExactly("이틀 후");
+            assertThat(wheel.size()).isZero();
+        }
+
+        @DisplayName("시각이 크게 건너뛰어도 그 사이 만료된 작업을 모두 실행한다.")
+        @Test
+        void jumpAhead() {
+            // given
+            TimingWheel<String> wheel = new TimingWheel<>(1, 60, 1_000);
+            wheel.schedule(1_005, "5초 후");
+            wheel.schedule(1_000 + 3_600, "1시간 후");
+            wheel.schedule(1_000 + 86_400, "하루 후");
+            List<String> fired = new ArrayList<>();
+
+            // when
+            wheel.advance(1_000 + 86_400, fired::add);
+
+            // then
+            assertThat(fired).containsExactlyInAnyOrder("5초 후", "1시간 후", "하루 후");
+        }
+    }
+}
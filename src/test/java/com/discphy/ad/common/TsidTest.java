@@ -0,0 +1,90 @@
+package com.discphy.ad.common;
+
+import com.discphy.ad.utils.ConcurrencyExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TsidTest {
+
+    @AfterEach
+    void tearDown() {
+        Tsid.configure(0);
+    }
+
+    @DisplayName("ID 발급 시, ")
+    @Nested
+    class Next {
+
+        @DisplayName("발급 순서대로 증가한다.")
+        @Test
+        void increasing() {
+            // given
+            List<Long> ids = new ArrayList<>();
+
+            // when
+            for (int i = 0; i < 10_000; i++) {
+                ids.add(Tsid.next());
+            }
+
+            // then
+            assertThat(ids).isSorted().doesNotHaveDuplicates();
+        }
+
+        @DisplayName("동시에 발급해도 중복되지 않는다.")
+        @Test
+        void uniqueOnConcurrency() {
+            // given
+            Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+            // when
+            ConcurrencyExecutor.executeConcurrency(8, () -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(Tsid.next());
+                }
+            });
+
+            // then
+            assertThat(ids).hasSize(80_000);
+        }
+
+        @DisplayName("발급 시각과 노드를 ID 에서 꺼낼 수 있다.")
+        @Test
+        void decode() {
+            // given
+            Tsid.configure(7);
+
+            // when
+            long id = Tsid.next();
+
+            // then
+            assertThat(id).isPositive();
+            assertThat(Tsid.nodeOf(id)).isEqualTo(7);
+            assertThat(Duration.between(Tsid.timestampOf(id), Instant.now())).isLessThan(Duration.ofSeconds(1));
+        }
+    }
+
+    @DisplayName("노드 설정 시, ")
+    @Nested
+    class Configure {
+
+        @DisplayName("범위를 벗어난 노드 ID는 설정할 수 없다.")
+        @Test
+        void outOfRange() {
+            // when & then
+            assertThatThrownBy(() -> Tsid.configure(Tsid.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.discphy.ad.domain.ad;
+
+import com.discphy.ad.domain.ad.condition.FirstJoinCondition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdCatalogSnapshotTest {
+
+    private final AdJoinConditionStrategy conditionStrategy = new AdJoinConditionStrategy(List.of(new FirstJoinCondition()));
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @DisplayName("스냅샷 변경 시, ")
+    @Nested
+    class CopyOnWrite {
+
+        @DisplayName("광고를 추가하면 기존 스냅샷은 그대로 두고 적립 액수 순으로 정렬된 새 스냅샷을 만든다.")
+        @Test
+        void with() {
+            // given
+            AdCatalogSnapshot snapshot = AdCatalogSnapshot.of(1L, now, List.of(createAd(1L, 1_000L), createAd(2L, 3_000L)), conditionStrategy::predicateOf);
+
+            // when
+            AdCatalogSnapshot added = snapshot.with(createAd(3L, 2_000L), 2L);
+
+            // then
+            assertThat(added.getVersion()).isEqualTo(2L);
+            assertThat(added.getAds()).extracting(Ad::getId).containsExactly(2L, 3L, 1L);
+            assertThat(snapshot.getAds()).extracting(Ad::getId).containsExactly(2L, 1L);
+        }
+
+        @DisplayName("광고를 제외하면 참여 가능한 광고 조회에서도 빠진다.")
+        @Test
+        void without() {
+            // given
+            AdCatalogSnapshot snapshot = AdCatalogSnapshot.of(1L, now, List.of(createAd(1L, 1_000L), createAd(2L, 3_000L)), conditionStrategy::predicateOf);
+
+            // when
+            AdCatalogSnapshot removed = snapshot.without(2L, 2L);
+
+            // then
+            assertThat(removed.contains(2L)).isFalse();
+            assertThat(removed.findEligible(UserJoinProfile.empty(), now, 10)).extracting(Ad::getId).containsExactly(1L);
+            assertThat(snapshot.contains(2L)).isTrue();
+        }
+    }
+
+    @DisplayName("최대 지연 확인 시, ")
+    @Nested
+    class Staleness {
+
+        @DisplayName("마지막 적재 후 지정한 시간이 지났는지 확인한다.")
+        @Test
+        void olderThan() {
+            // given
+            AdCatalogSnapshot snapshot = AdCatalogSnapshot.of(1L, now, List.of(), conditionStrategy::predicateOf);
+
+            // when & then
+            assertThat(snapshot.isOlderThan(Duration.ofSeconds(30), now.plusSeconds(10))).isFalse();
+            assertThat(snapshot.isOlderThan(Duration.ofSeconds(30), now.plusSeconds(31))).isTrue();
+        }
+    }
+
+    private Ad createAd(Long id, long rewardAmount) {
+        return Ad.builder()
+            .id(id)
+            .name("광고" + id)
+            .rewardAmount(rewardAmount)
+            .joinCount(10)
+            .description("광고 설명")
+            .imageUrl("https://example.com/image.jpg")
+            .startedAt(now.minusDays(1))
+            .endedAt(now.plusDays(1))
+            .type(AdJoinConditionType.FIRST_JOIN)
+            .build();
+    }
+}
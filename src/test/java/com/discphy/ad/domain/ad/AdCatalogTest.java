@@ -0,0 +1,205 @@
+package com.discphy.ad.domain.ad;
+
+import com.discphy.ad.domain.ad.condition.FirstJoinCondition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdCatalogTest {
+
+    @Mock
+    private AdJoinInventoryStrategy adJoinInventoryStrategy;
+
+    @Mock
+    private AdJoinInventory adJoinInventory;
+
+    private AdCatalog adCatalog;
+
+    @BeforeEach
+    void setUp() {
+        adCatalog = new AdCatalog(
+            adJoinInventoryStrategy,
+            new AdJoinConditionStrategy(List.of(new FirstJoinCondition())),
+            Duration.ofSeconds(30)
+        );
+    }
+
+    @DisplayName("카탈로그 조회 시, ")
+    @Nested
+    class Find {
+
+        @DisplayName("적재 전에는 스냅샷이 없다.")
+        @Test
+        void beforeRefresh() {
+            // when
+            Optional<AdCatalogSnapshot> snapshot = adCatalog.find();
+
+            // then
+            assertThat(snapshot).isEmpty();
+            assertThat(adCatalog.version()).isZero();
+        }
+
+        @DisplayName("적재한 스냅샷은 DB 조회 없이 반복해서 읽는다.")
+        @Test
+        void readWithoutDatabase() {
+            // given
+            givenJoinableAds(List.of(createAd(1L)));
+            adCatalog.refresh();
+
+            // when
+            adCatalog.find();
+            adCatalog.find();
+
+            // then
+            assertThat(adCatalog.find()).get()
+                .extracting(AdCatalogSnapshot::getVersion)
+                .isEqualTo(1L);
+            verify(adJoinInventory, times(1)).findJoinableAds(any(LocalDateTime.class));
+        }
+    }
+
+    @DisplayName("카탈로그 변경 시, ")
+    @Nested
+    class Swap {
+
+        @DisplayName("광고가 소진되면 DB 조회 없이 해당 광고를 뺀 새 버전으로 교체한다.")
+        @Test
+        void removeSoldOut() {
+            // given
+            givenJoinableAds(List.of(createAd(1L), createAd(2L)));
+            adCatalog.refresh();
+            AdCatalogSnapshot before = adCatalog.find().orElseThrow();
+
+            // when
+            adCatalog.removeAfterCommit(1L);
+
+            // then
+            AdCatalogSnapshot after = adCatalog.find().orElseThrow();
+            assertThat(after.getVersion()).isEqualTo(2L);
+            assertThat(after.contains(1L)).isFalse();
+            assertThat(before.contains(1L)).isTrue();
+            verify(adJoinInventory, times(1)).findJoinableAds(any(LocalDateTime.class));
+        }
+
+        @DisplayName("광고가 등록되면 새 버전에 추가한다.")
+        @Test
+        void addCreated() {
+            // given
+            givenJoinableAds(List.of(createAd(1L)));
+            adCatalog.refresh();
+
+            // when
+            adCatalog.add(createAd(2L));
+
+            // then
+            AdCatalogSnapshot after = adCatalog.find().orElseThrow();
+            assertThat(after.getVersion()).isEqualTo(2L);
+            assertThat(after.getAds()).extracting(Ad::getId).containsExactlyInAnyOrder(1L, 2L);
+        }
+
+        @DisplayName("적재 중에 반영된 추가, 제거는 적재 결과로 덮어쓰지 않는다.")
+        @Test
+        void keepChangesDuringRefresh() {
+            // given
+            givenJoinableAds(List.of(createAd(1L), createAd(2L)));
+            adCatalog.refresh();
+            when(adJoinInventory.findJoinableAds(any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    adCatalog.remove(1L); // 조회 이후 커밋된 소진
+                    adCatalog.add(createAd(3L)); // 조회 이후 커밋된 활성화
+                    return List.of(createAd(1L), createAd(2L));
+                });
+
+            // when
+            adCatalog.refresh();
+
+            // then
+            AdCatalogSnapshot after = adCatalog.find().orElseThrow();
+            assertThat(after.getAds()).extracting(Ad::getId).containsExactlyInAnyOrder(2L, 3L);
+        }
+
+        @DisplayName("다시 적재한 광고 구성이 같으면 버전을 유지한다.")
+        @Test
+        void keepVersionWhenUnchanged() {
+            // given
+            givenJoinableAds(List.of(createAd(1L), createAd(2L)));
+            adCatalog.refresh();
+
+            // when
+            adCatalog.refresh();
+
+            // then
+            assertThat(adCatalog.version()).isEqualTo(1L);
+        }
+
+        @DisplayName("같은 광고라도 내용이 바뀌어 다시 적재되면 버전을 올린다.")
+        @Test
+        void bumpVersionWhenContentChanged() {
+            // given
+            Ad before = createAd(1L);
+            Ad after = Ad.builder()
+                .id(1L)
+                .name(before.getName())
+                .rewardAmount(before.getRewardAmount() + 500L)
+                .joinCount(before.getJoinCount())
+                .description(before.getDescription())
+                .imageUrl(before.getImageUrl())
+                .startedAt(before.getStartedAt())
+                .endedAt(before.getEndedAt())
+                .type(before.getType())
+                .build();
+
+            when(adJoinInventoryStrategy.get())
+                .thenReturn(adJoinInventory);
+            when(adJoinInventory.findJoinableAds(any(LocalDateTime.class)))
+                .thenReturn(List.of(before), List.of(after));
+            adCatalog.refresh();
+
+            // when
+            adCatalog.refresh();
+
+            // then
+            assertThat(adCatalog.version()).isEqualTo(2L);
+            assertThat(adCatalog.find().orElseThrow().getAds())
+                .extracting(Ad::getRewardAmount)
+                .containsExactly(1_500L);
+        }
+    }
+
+    private void givenJoinableAds(List<Ad> ads) {
+        when(adJoinInventoryStrategy.get())
+            .thenReturn(adJoinInventory);
+        when(adJoinInventory.findJoinableAds(any(LocalDateTime.class)))
+            .thenReturn(ads);
+    }
+
+    private Ad createAd(Long id) {
+        return Ad.builder()
+            .id(id)
+            .name("광고" + id)
+            .rewardAmount(1_000L * id)
+            .joinCount(10)
+            .description("광고 설명")
+            .imageUrl("https://example.com/image.jpg")
+            .startedAt(LocalDateTime.now().minusDays(1))
+            .endedAt(LocalDateTime.now().plusDays(1))
+            .type(AdJoinConditionType.FIRST_JOIN)
+            .build();
+    }
+}
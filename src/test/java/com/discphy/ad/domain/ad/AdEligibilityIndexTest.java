@@ -0,0 +1,170 @@
+package com.discphy.ad.domain.ad;
+
+import com.discphy.ad.domain.ad.condition.CountOverJoinCondition;
+import com.discphy.ad.domain.ad.condition.FirstJoinCondition;
+import com.discphy.ad.domain.ad.condition.SpecificAdIdJoinCondition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdEligibilityIndexTest {
+
+    private final AdJoinConditionStrategy conditionStrategy = new AdJoinConditionStrategy(List.of(
+        new FirstJoinCondition(),
+        new CountOverJoinCondition(),
+        new SpecificAdIdJoinCondition()
+    ));
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @DisplayName("참여 가능한 광고 조회 시, ")
+    @Nested
+    class FindEligible {
+
+        @DisplayName("참여 이력이 없으면 첫 참여 광고만 조회한다.")
+        @Test
+        void firstJoin() {
+            // given
+            AdEligibilityIndex index = AdEligibilityIndex.of(List.of(
+                createAd(1L, 1_000L, AdJoinConditionType.FIRST_JOIN, null),
+                createAd(2L, 2_000L, AdJoinConditionType.COUNT_OVER, "{\"joinCount\": 1}"),
+                createAd(3L, 3_000L, AdJoinConditionType.SPECIFIC_AD_ID, "{\"adId\": 1}")
+            ), conditionStrategy::predicateOf);
+
+            // when
+            List<Ad> ads = index.findEligible(UserJoinProfile.empty(), now, 10);
+
+            // then
+            assertThat(ads).extracting(Ad::getId).containsExactly(1L);
+        }
+
+        @DisplayName("참여 횟수와 참여한 광고에 맞는 광고를 적립 액수 내림차순으로 조회한다.")
+        @Test
+        void mergeByRewardAmount() {
+            // given
+            AdEligibilityIndex index = AdEligibilityIndex.of(List.of(
+                createAd(1L, 1_000L, AdJoinConditionType.FIRST_JOIN, null),
+                createAd(2L, 2_000L, AdJoinConditionType.COUNT_OVER, "{\"joinCount\": 1}"),
+                createAd(3L, 5_000L, AdJoinConditionType.COUNT_OVER, "{\"joinCount\": 3}"),
+                createAd(4L, 4_000L, AdJoinConditionType.SPECIFIC_AD_ID, "{\"adId\": 1}"),
+                createAd(5L, 3_000L, AdJoinConditionType.COUNT_OVER, "{\"joinCount\": 2}"),
+                createAd(6L, 6_000L, AdJoinConditionType.SPECIFIC_AD_ID, "{\"adId\": 9}")
+            ), conditionStrategy::predicateOf);
+            UserJoinProfile profile = UserJoinProfile.of(List.of(
+                new AdJoinedSummary(1L, 1L, 2L, now.minusDays(1))
+            ));
+
+            // when
+            List<Ad> ads = index.findEligible(profile, now, 10);
+
+            // then
+            assertThat(ads).extracting(Ad::getId).containsExactly(4L, 5L, 2L);
+        }
+
+        @DisplayName("최대 개수만큼 찾으면 조회를 멈춘다.")
+        @Test
+        void stopAtLimit() {
+            // given
+            AdEligibilityIndex index = AdEligibilityIndex.of(List.of(
+                createAd(1L, 1_000L, AdJoinConditionType.FIRST_JOIN, null),
+                createAd(2L, 2_000L, AdJoinConditionType.FIRST_JOIN, null),
+                createAd(3L, 3_000L, AdJoinConditionType.FIRST_JOIN, null)
+            ), conditionStrategy::predicateOf);
+
+            // when
+            List<Ad> ads = index.findEligible(UserJoinProfile.empty(), now, 2);
+
+            // then
+            assertThat(ads).extracting(Ad::getId).containsExactly(3L, 2L);
+        }
+
+        @DisplayName("노출 기간이 지난 광고는 조회하지 않는다.")
+        @Test
+        void excludeEnded() {
+            // given
+            AdEligibilityIndex index = AdEligibilityIndex.of(List.of(
+                createAd(1L, 1_000L, AdJoinConditionType.FIRST_JOIN, null)
+            ), conditionStrategy::predicateOf);
+
+            // when
+            List<Ad> ads = index.findEligible(UserJoinProfile.empty(), now.plusDays(2), 10);
+
+            // then
+            assertThat(ads).isEmpty();
+        }
+    }
+
+    @DisplayName("참여 조건 서명 계산 시, ")
+    @Nested
+    class SignatureOf {
+
+        @DisplayName("참여 조건 판단에 쓰이는 정보가 같으면 같은 서명을 가진다.")
+        @Test
+        void sameSignature() {
+            // given
+            AdEligibilityIndex index = AdEligibilityIndex.of(List.of(
+                createAd(1L, 1_000L, AdJoinConditionType.FIRST_JOIN, null),
+                createAd(2L, 2_000L, AdJoinConditionType.COUNT_OVER, "{\"joinCount\": 3}"),
+                createAd(3L, 3_000L, AdJoinConditionType.SPECIFIC_AD_ID, "{\"adId\": 1}")
+            ), conditionStrategy::predicateOf);
+            UserJoinProfile joinedOnce = UserJoinProfile.of(List.of(
+                new AdJoinedSummary(1L, 7L, 1L, now.minusDays(1))
+            ));
+            UserJoinProfile joinedTwice = UserJoinProfile.of(List.of(
+                new AdJoinedSummary(1L, 8L, 1L, now.minusDays(2)),
+                new AdJoinedSummary(1L, 9L, 1L, now.minusDays(1))
+            ));
+
+            // when
+            AdEligibilitySignature first = index.signatureOf(joinedOnce, 1L).orElseThrow();
+            AdEligibilitySignature second = index.signatureOf(joinedTwice, 1L).orElseThrow();
+
+            // then
+            assertThat(first).isEqualTo(second);
+            assertThat(index.findEligible(joinedOnce, now, 10)).isEqualTo(index.findEligible(joinedTwice, now, 10));
+        }
+
+        @DisplayName("선행 광고 참여 여부가 다르면 다른 서명을 가진다.")
+        @Test
+        void differentPrerequisite() {
+            // given
+            AdEligibilityIndex index = AdEligibilityIndex.of(List.of(
+                createAd(3L, 3_000L, AdJoinConditionType.SPECIFIC_AD_ID, "{\"adId\": 1}")
+            ), conditionStrategy::predicateOf);
+            UserJoinProfile joinedPrerequisite = UserJoinProfile.of(List.of(
+                new AdJoinedSummary(1L, 1L, 1L, now.minusDays(1))
+            ));
+            UserJoinProfile joinedOther = UserJoinProfile.of(List.of(
+                new AdJoinedSummary(1L, 2L, 1L, now.minusDays(1))
+            ));
+
+            // when
+            AdEligibilitySignature first = index.signatureOf(joinedPrerequisite, 1L).orElseThrow();
+            AdEligibilitySignature second = index.signatureOf(joinedOther, 1L).orElseThrow();
+
+            // then
+            assertThat(first).isNotEqualTo(second);
+            assertThat(first.prerequisiteAdIds()).containsExactly(1L);
+        }
+    }
+
+    private Ad createAd(Long id, long rewardAmount, AdJoinConditionType type, String context) {
+        return Ad.builder()
+            .id(id)
+            .name("광고" + id)
+            .rewardAmount(rewardAmount)
+            .joinCount(10)
+            .description("광고 설명")
+            .imageUrl("https://example.com/image.jpg")
+            .startedAt(now.minusDays(1))
+            .endedAt(now.plusDays(1))
+            .type(type)
+            .context(context)
+            .build();
+    }
+}
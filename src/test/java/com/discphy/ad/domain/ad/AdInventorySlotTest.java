@@ -0,0 +1,68 @@
+package com.discphy.ad.domain.ad;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class AdInventorySlotTest {
+
+    @DisplayName("참여 횟수 슬롯 분배 시, ")
+    @Nested
+    class Split {
+
+        @DisplayName("참여 가능 횟수를 슬롯 수만큼 고르게 나눈다.")
+        @Test
+        void splitEvenly() {
+            // given
+            Ad ad = createAd(10, 4);
+
+            // when
+            List<AdInventorySlot> slots = AdInventorySlot.split(ad);
+
+            // then
+            assertThat(slots)
+                .extracting(AdInventorySlot::getSlotNo, AdInventorySlot::getRemaining)
+                .containsExactly(
+                    tuple(0, 3),
+                    tuple(1, 3),
+                    tuple(2, 2),
+                    tuple(3, 2)
+                );
+        }
+
+        @DisplayName("슬롯 수를 지정하지 않으면 하나의 슬롯에 모두 담는다.")
+        @Test
+        void splitWithDefault() {
+            // given
+            Ad ad = createAd(10, null);
+
+            // when
+            List<AdInventorySlot> slots = AdInventorySlot.split(ad);
+
+            // then
+            assertThat(slots).hasSize(1);
+            assertThat(slots.get(0).getRemaining()).isEqualTo(10);
+        }
+    }
+
+    private Ad createAd(int joinCount, Integer inventorySlotCount) {
+        return Ad.builder()
+            .id(1L)
+            .name("광고명")
+            .rewardAmount(1_000L)
+            .joinCount(joinCount)
+            .description("광고 설명")
+            .imageUrl("https://example.com/image.jpg")
+            .startedAt(LocalDateTime.now().minusDays(1))
+            .endedAt(LocalDateTime.now().plusDays(1))
+            .type(AdJoinConditionType.FIRST_JOIN)
+            .inventorySlotCount(inventorySlotCount)
+            .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.discphy.ad.domain.ad;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdJoinConditionStrategyTest {
+
+    @Mock
+    private AdJoinCondition adJoinCondition;
+
+    private AdJoinConditionStrategy adJoinConditionStrategy;
+
+    @BeforeEach
+    void setUp() {
+        when(adJoinCondition.type())
+            .thenReturn(AdJoinConditionType.COUNT_OVER);
+
+        adJoinConditionStrategy = new AdJoinConditionStrategy(List.of(adJoinCondition));
+    }
+
+    @DisplayName("참여 조건 확인 시, ")
+    @Nested
+    class IsSatisfied {
+
+        @DisplayName("같은 광고는 한 번만 컴파일한다.")
+        @Test
+        void compileOnce() {
+            // given
+            Ad ad = createAd("{\"joinCount\": 1}");
+
+            when(adJoinCondition.compile(ad.getContext()))
+                .thenReturn(profile -> true);
+
+            // when
+            adJoinConditionStrategy.isSatisfied(ad, UserJoinProfile.empty());
+            boolean result = adJoinConditionStrategy.isSatisfied(ad, UserJoinProfile.empty());
+
+            // then
+            assertThat(result).isTrue();
+            verify(adJoinCondition, times(1)).compile(ad.getContext());
+        }
+
+        @DisplayName("참여 조건이 변경되면 다시 컴파일한다.")
+        @Test
+        void recompileOnChange() {
+            // given
+            Ad before = createAd("{\"joinCount\": 1}");
+            Ad after = createAd("{\"joinCount\": 2}");
+
+            when(adJoinCondition.compile(before.getContext()))
+                .thenReturn(profile -> true);
+            when(adJoinCondition.compile(after.getContext()))
+                .thenReturn(profile -> false);
+
+            // when
+            adJoinConditionStrategy.isSatisfied(before, UserJoinProfile.empty());
+            boolean result = adJoinConditionStrategy.isSatisfied(after, UserJoinProfile.empty());
+
+            // then
+            assertThat(result).isFalse();
+        }
+    }
+
+    private Ad createAd(String context) {
+        return Ad.builder()
+            .id(1L)
+            .name("광고명")
+            .rewardAmount(1_000L)
+            .joinCount(10)
+            .description("광고 설명")
+            .imageUrl("https://example.com/image.jpg")
+            .startedAt(LocalDateTime.now().minusDays(1))
+            .endedAt(LocalDateTime.now().plusDays(1))
+            .type(AdJoinConditionType.COUNT_OVER)
+            .context(context)
+            .build();
+    }
+}
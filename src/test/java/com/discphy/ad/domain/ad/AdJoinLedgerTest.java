@@ -0,0 +1,230 @@
+package com.discphy.ad.domain.ad;
+
+import com.discphy.ad.domain.ad.inventory.AdJoinLedger;
+import com.discphy.ad.exception.CoreException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.discphy.ad.utils.ConcurrencyExecutor.executeConcurrency;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdJoinLedgerTest {
+
+    @InjectMocks
+    private AdJoinLedger adJoinLedger;
+
+    @Mock
+    private AdRepository adRepository;
+
+    @Mock
+    private AdSoldOutRegistry adSoldOutRegistry;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @DisplayName("참여 횟수 차감 시, ")
+    @Nested
+    class Decrease {
+
+        @DisplayName("참여 가능 횟수만큼만 차감할 수 있다.")
+        @Test
+        void decreaseUntilZero() {
+            // given
+            Ad ad = createAd(2);
+
+            // when
+            int first = adJoinLedger.decrease(ad);
+            int second = adJoinLedger.decrease(ad);
+
+            // then
+            assertThat(first).isEqualTo(1);
+            assertThat(second).isEqualTo(0);
+            assertThatThrownBy(() -> adJoinLedger.decrease(ad))
+                .isInstanceOf(CoreException.class)
+                .hasMessage("참여가 불가능합니다.");
+        }
+
+        @DisplayName("처음 차감 시, 참여 이력 수로 남은 횟수를 보정한다.")
+        @Test
+        void reconcileWithHistories() {
+            // given
+            Ad ad = createAd(10);
+
+            when(adRepository.countJoinedHistories(ad.getId()))
+                .thenReturn(4L);
+
+            // when
+            int remaining = adJoinLedger.decrease(ad);
+
+            // then
+            assertThat(remaining).isEqualTo(5);
+        }
+
+        @DisplayName("동시에 차감하더라도 참여 가능 횟수를 초과하지 않는다.")
+        @Test
+        void decreaseConcurrently() {
+            // given
+            Ad ad = createAd(100);
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger failCount = new AtomicInteger();
+
+            // when
+            executeConcurrency(200, () -> {
+                try {
+                    adJoinLedger.decrease(ad);
+                    successCount.incrementAndGet();
+                } catch (CoreException e) {
+                    failCount.incrementAndGet();
+                }
+            });
+
+            // then
+            assertThat(successCount.get()).isEqualTo(100);
+            assertThat(failCount.get()).isEqualTo(100);
+            assertThat(adJoinLedger.remaining(ad.getId())).isZero();
+        }
+
+        @DisplayName("마지막 차감이 롤백되면 남은 횟수를 되돌리고 소진 기록을 해제한다.")
+        @Test
+        void reopenOnRollback() {
+            // given
+            Ad ad = createAd(1);
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                adJoinLedger.decrease(ad);
+
+                // when
+                TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // then
+            assertThat(adJoinLedger.remaining(ad.getId())).isEqualTo(1);
+            verify(adSoldOutRegistry).reopen(ad.getId());
+        }
+    }
+
+    @DisplayName("원장 반영 시, ")
+    @Nested
+    class Flush {
+
+        @DisplayName("변경된 참여 가능 횟수만 반영한다.")
+        @Test
+        void flushOnlyChanged() {
+            // given
+            Ad ad = createAd(10);
+            adJoinLedger.decrease(ad);
+
+            // when
+            adJoinLedger.flush();
+            adJoinLedger.flush();
+
+            // then
+            verify(adRepository, times(1)).updateJoinCount(ad.getId(), 9);
+        }
+
+        @DisplayName("마지막 차감이 롤백되어 다시 남으면, 남은 횟수가 그대로여도 소진 해제를 알린다.")
+        @Test
+        void publishReopened() {
+            // given
+            Ad ad = createAd(1);
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                adJoinLedger.decrease(ad);
+                TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // when
+            adJoinLedger.flush();
+            adJoinLedger.flush();
+
+            // then
+            verify(adRepository, never()).updateJoinCount(ad.getId(), 1);
+            verify(eventPublisher, times(1)).publishEvent(new AdEvent.Reopened(ad.getId()));
+        }
+
+        @DisplayName("소진되면 소진 상태 반영을 알린다.")
+        @Test
+        void publishSoldOut() {
+            // given
+            Ad ad = createAd(1);
+            adJoinLedger.decrease(ad);
+
+            // when
+            adJoinLedger.flush();
+
+            // then
+            verify(adRepository).updateJoinCount(ad.getId(), 0);
+            verify(eventPublisher).publishEvent(new AdEvent.SoldOut(ad.getId()));
+        }
+
+        @DisplayName("소진이 반영되고 진행 중인 참여가 없으면 원장에서 제거한다.")
+        @Test
+        void evictSoldOut() {
+            // given
+            Ad ad = createAd(1);
+            adJoinLedger.decrease(ad);
+
+            // when
+            adJoinLedger.flush();
+
+            // then
+            assertThat(adJoinLedger.remaining(ad.getId())).isEqualTo(-1);
+        }
+
+        @DisplayName("소진되었더라도 커밋되지 않은 참여가 있으면 원장에 남긴다.")
+        @Test
+        void keepWhilePending() {
+            // given
+            Ad ad = createAd(1);
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                adJoinLedger.decrease(ad);
+
+                // when
+                adJoinLedger.flush();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            // then
+            assertThat(adJoinLedger.remaining(ad.getId())).isZero();
+        }
+    }
+
+    private Ad createAd(int joinCount) {
+        return Ad.builder()
+            .id(1L)
+            .name("광고명")
+            .rewardAmount(1_000L)
+            .joinCount(joinCount)
+            .description("광고 설명")
+            .imageUrl("https://example.com/image.jpg")
+            .startedAt(LocalDateTime.now().minusDays(1))
+            .endedAt(LocalDateTime.now().plusDays(1))
+            .type(AdJoinConditionType.FIRST_JOIN)
+            .build();
+    }
+}
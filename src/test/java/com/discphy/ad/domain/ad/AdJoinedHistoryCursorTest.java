@@ -0,0 +1,41 @@
+package com.discphy.ad.domain.ad;
+
+import com.discphy.ad.exception.CoreException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdJoinedHistoryCursorTest {
+
+    @DisplayName("커서 변환 시, ")
+    @Nested
+    class Decode {
+
+        @DisplayName("인코딩한 커서를 그대로 복원한다.")
+        @Test
+        void roundTrip() {
+            // given
+            AdJoinedHistoryCursor cursor = new AdJoinedHistoryCursor(LocalDateTime.of(2025, 1, 1, 12, 30, 15, 123_456_000), 42L);
+
+            // when
+            AdJoinedHistoryCursor decoded = AdJoinedHistoryCursor.decode(cursor.encode());
+
+            // then
+            assertThat(decoded).isEqualTo(cursor);
+        }
+
+        @DisplayName("형식이 올바르지 않으면 예외를 던진다.")
+        @Test
+        void invalidCursor() {
+            // when & then
+            assertThatThrownBy(() -> AdJoinedHistoryCursor.decode("invalid"))
+                .isInstanceOf(CoreException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.discphy.ad.domain.ad;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdLifecycleSchedulerTest {
+
+    @Mock
+    private AdRepository adRepository;
+
+    @Mock
+    private AdCatalog adCatalog;
+
+    private AdLifecycleScheduler adLifecycleScheduler;
+
+    @BeforeEach
+    void setUp() {
+        adLifecycleScheduler = new AdLifecycleScheduler(adRepository, adCatalog);
+    }
+
+    @DisplayName("상태 전이 예약 복구 시, ")
+    @Nested
+    class Rebuild {
+
+        @DisplayName("광고 상태를 먼저 보정한 뒤 종료되지 않은 광고의 전이를 다시 예약한다.")
+        @Test
+        void fromAdTable() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            Ad active = createAd(1L, now.minusDays(1), now.plusDays(1));
+
+            when(adRepository.findNotEndedAds(any(LocalDateTime.class)))
+                .thenReturn(List.of(active));
+
+            // when
+            adLifecycleScheduler.rebuild();
+
+            // then
+            InOrder inOrder = inOrder(adRepository);
+            inOrder.verify(adRepository).backfillStatuses(any(LocalDateTime.class));
+            inOrder.verify(adRepository).transitStatuses(any(LocalDateTime.class));
+            inOrder.verify(adRepository).findNotEndedAds(any(LocalDateTime.class));
+        }
+    }
+
+    @DisplayName("광고 등록 시, ")
+    @Nested
+    class Register {
+
+        @DisplayName("이미 시작된 광고는 바로 카탈로그에 추가한다.")
+        @Test
+        void activeAd() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            Ad ad = createAd(1L, now.minusDays(1), now.plusDays(1));
+
+            // when
+            adLifecycleScheduler.registerAfterCommit(ad);
+
+            // then
+            verify(adCatalog).add(ad);
+        }
+
+        @DisplayName("시작 전인 광고는 시작 시각이 되면 노출 중으로 저장하고 카탈로그에 추가한다.")
+        @Test
+        void activateAtStartedAt() throws InterruptedException {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            Ad ad = createAd(1L, now.plusSeconds(1), now.plusDays(1));
+            Ad activated = createAd(1L, now.minusSeconds(1), now.plusDays(1));
+
+            when(adRepository.updateStatus(1L, List.of(AdStatus.SCHEDULED), AdStatus.ACTIVE))
+                .thenReturn(true);
+            when(adRepository.findById(1L))
+                .thenReturn(Optional.of(activated));
+
+            adLifecycleScheduler.registerAfterCommit(ad);
+            verify(adCatalog, never()).add(any(Ad.class));
+
+            // when
+            Thread.sleep(2_100);
+            adLifecycleScheduler.advance();
+
+            // then
+            verify(adCatalog).add(activated);
+        }
+
+        @DisplayName("시작 시각 직후 소진된 광고는 다시 조회한 상태를 보고 카탈로그에 추가하지 않는다.")
+        @Test
+        void skipSoldOutAfterActivation() throws InterruptedException {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            Ad ad = createAd(1L, now.plusSeconds(1), now.plusDays(1));
+            Ad soldOut = Ad.builder()
+                .id(1L)
+                .name("광고1")
+                .rewardAmount(1_000L)
+                .joinCount(1)
+                .description("광고 설명")
+                .imageUrl("https://example.com/image.jpg")
+                .startedAt(now.minusSeconds(1))
+                .endedAt(now.plusDays(1))
+                .type(AdJoinConditionType.FIRST_JOIN)
+                .build();
+            soldOut.join();
+
+            when(adRepository.updateStatus(1L, List.of(AdStatus.SCHEDULED), AdStatus.ACTIVE))
+                .thenReturn(true);
+            when(adRepository.findById(1L))
+                .thenReturn(Optional.of(soldOut));
+
+            adLifecycleScheduler.registerAfterCommit(ad);
+
+            // when
+            Thread.sleep(2_100);
+            adLifecycleScheduler.advance();
+
+            // then
+            verify(adCatalog, never()).add(any(Ad.class));
+        }
+
+        @DisplayName("시작 전에 소진된 광고는 시작 시각이 되어도 카탈로그에 추가하지 않는다.")
+        @Test
+        void skipSoldOutBeforeStartedAt() throws InterruptedException {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            Ad ad = createAd(1L, now.plusSeconds(1), now.plusDays(1));
+
+            when(adRepository.updateStatus(1L, List.of(AdStatus.SCHEDULED), AdStatus.ACTIVE))
+                .thenReturn(false);
+
+            adLifecycleScheduler.registerAfterCommit(ad);
+
+            // when
+            Thread.sleep(2_100);
+            adLifecycleScheduler.advance();
+
+            // then
+            verify(adCatalog, never()).add(ad);
+        }
+    }
+
+    @DisplayName("원장 방식의 소진 해제 시, ")
+    @Nested
+    class Reopen {
+
+        @DisplayName("소진 상태를 노출 중으로 되돌리고 카탈로그에 다시 추가한다.")
+        @Test
+        void restoreActive() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            Ad ad = createAd(1L, now.minusDays(1), now.plusDays(1));
+
+            when(adRepository.updateStatus(1L, List.of(AdStatus.SOLD_OUT), AdStatus.ACTIVE))
+                .thenReturn(true);
+            when(adRepository.findById(1L))
+                .thenReturn(Optional.of(ad));
+
+            // when
+            adLifecycleScheduler.reopen(new AdEvent.Reopened(1L));
+
+            // then
+            verify(adCatalog).add(ad);
+        }
+
+        @DisplayName("이미 종료된 광고는 카탈로그에 추가하지 않는다.")
+        @Test
+        void skipEnded() {
+            // given
+            when(adRepository.updateStatus(1L, List.of(AdStatus.SOLD_OUT), AdStatus.ACTIVE))
+                .thenReturn(false);
+
+            // when
+            adLifecycleScheduler.reopen(new AdEvent.Reopened(1L));
+
+            // then
+            verify(adRepository, never()).findById(1L);
+            verify(adCatalog, never()).add(any(Ad.class));
+        }
+    }
+
+    private Ad createAd(Long id, LocalDateTime startedAt, LocalDateTime endedAt) {
+        return Ad.builder()
+            .id(id)
+            .name("광고" + id)
+            .rewardAmount(1_000L)
+            .joinCount(10)
+            .description("광고 설명")
+            .imageUrl("https://example.com/image.jpg")
+            .startedAt(startedAt)
+            .endedAt(endedAt)
+            .type(AdJoinConditionType.FIRST_JOIN)
+            .build();
+    }
+}
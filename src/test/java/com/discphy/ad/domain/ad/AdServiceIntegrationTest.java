@@ -29,6 +29,9 @@ class AdServiceIntegrationTest {
     @Autowired
     private AdJpaRepository adJpaRepository;
 
+    @Autowired
+    private AdCatalog adCatalog;
+
     @Autowired
     private AdJoinedUserJpaRepository adJoinedUserJpaRepository;
 
@@ -283,6 +286,31 @@ class AdServiceIntegrationTest {
             assertThat(savedJoinedHistory.getUserId()).isEqualTo(user.getId());
             assertThat(savedJoinedHistory.getJoinedAt()).isNotNull();
         }
+
+        @DisplayName("마지막 참여 후, 광고 상태를 참여 마감으로 저장한다.")
+        @Test
+        void soldOutAfterLastJoin() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            Ad ad = adJpaRepository.save(Ad.create(new AdCommand.Create(
+                "마지막 참여 광고",
+                1_000L,
+                1,
+                "마지막 참여 광고 설명",
+                "https://example.com/last_join.jpg",
+                now.minusDays(1),
+                now.plusDays(1),
+                AdJoinConditionType.FIRST_JOIN,
+                null
+            )));
+
+            // when
+            adService.join(ad.getId(), user);
+
+            // then
+            Ad updated = adJpaRepository.findById(ad.getId()).get();
+            assertThat(updated.getStatus()).isEqualTo(AdStatus.SOLD_OUT);
+        }
     }
 
     @DisplayName("광고 조회 시, ")
@@ -363,6 +391,8 @@ class AdServiceIntegrationTest {
                 joinableAd, countOverConditionAd, specificAdIdConditionAd, notDisplayedAd, notExistJoinCountAd
             ));
 
+            adCatalog.refresh();
+
             // when
             List<Ad> joinableAds = adService.getJoinable(user.getId(), now);
 
@@ -400,6 +430,7 @@ class AdServiceIntegrationTest {
                 null
             ));
             adJpaRepository.saveAll(List.of(ad1, ad2));
+            adCatalog.refresh();
 
             // when
             List<Ad> joinableAds = adService.getJoinable(user.getId(), now);
@@ -439,11 +470,11 @@ class AdServiceIntegrationTest {
             adJoinedUserJpaRepository.saveAll(List.of(joinedUser1, joinedUser2));
 
             // when
-            List<AdJoinedHistory> joinedUsers = adService.getJoinedHistories(AdCommand.JoinedHistoriesQuery.of(user.getId(), 1, 2));
+            List<AdInfo.JoinedHistory> joinedUsers = adService.getJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery.of(user.getId(), 1, 2));
 
             // then
             assertThat(joinedUsers).hasSize(2)
-                .extracting(AdJoinedHistory::getJoinedAt)
+                .extracting(AdInfo.JoinedHistory::joinedAt)
                 .containsExactly(
                     LocalDateTime.of(2025, 7, 26, 13, 0, 0),
                     LocalDateTime.of(2025, 7, 26, 13, 0, 1)
@@ -475,14 +506,49 @@ class AdServiceIntegrationTest {
             }
 
             // when
-            List<AdJoinedHistory> joinedUsersPage1 = adService.getJoinedHistories(AdCommand.JoinedHistoriesQuery.of(user.getId(), 1, 5));
-            List<AdJoinedHistory> joinedUsersPage2 = adService.getJoinedHistories(AdCommand.JoinedHistoriesQuery.of(user.getId(), 2, 5));
+            List<AdInfo.JoinedHistory> joinedUsersPage1 = adService.getJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery.of(user.getId(), 1, 5));
+            List<AdInfo.JoinedHistory> joinedUsersPage2 = adService.getJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery.of(user.getId(), 2, 5));
 
             // then
             assertThat(joinedUsersPage1).hasSize(5);
             assertThat(joinedUsersPage2).hasSize(5);
         }
 
+        @DisplayName("커서로 조회하면 커서 이후의 이력을 참여 시간 순으로 이어서 조회한다.")
+        @Test
+        void cursorPagination() {
+            // given
+            Ad ad = adJpaRepository.save(Ad.create(new AdCommand.Create(
+                "광고명",
+                2_000L,
+                100,
+                "새로운 광고 설명",
+                "https://example.com/image2.jpg",
+                LocalDateTime.now(),
+                LocalDateTime.now().plusDays(1),
+                AdJoinConditionType.FIRST_JOIN,
+                null
+            )));
+
+            LocalDateTime joinedAt = LocalDateTime.now().withNano(0);
+            for (int i = 0; i < 10; i++) {
+                adJoinedUserJpaRepository.save(AdJoinedHistory.create(ad, user, joinedAt.minusDays(i / 2))); // 같은 참여 시간 포함
+            }
+
+            // when
+            List<AdInfo.JoinedHistory> page1 = adService.getJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery.of(user.getId(), 1, 5));
+            String cursor = AdJoinedHistoryCursor.after(page1.getLast()).encode();
+            List<AdInfo.JoinedHistory> page2 = adService.getJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery.of(user.getId(), cursor, 5));
+
+            // then
+            assertThat(page2)
+                .extracting(AdInfo.JoinedHistory::id)
+                .containsExactlyElementsOf(adService.getJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery.of(user.getId(), 2, 5)).stream()
+                    .map(AdInfo.JoinedHistory::id)
+                    .toList())
+                .doesNotContainAnyElementsOf(page1.stream().map(AdInfo.JoinedHistory::id).toList());
+        }
+
         @DisplayName("최대 50개까지만 이력을 조회할 수 있다.")
         @Test
         void maxLimit() {
@@ -508,7 +574,7 @@ class AdServiceIntegrationTest {
             }
 
             // when
-            List<AdJoinedHistory> joinedUsers = adService.getJoinedHistories(AdCommand.JoinedHistoriesQuery.of(user.getId(), 1, 51));
+            List<AdInfo.JoinedHistory> joinedUsers = adService.getJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery.of(user.getId(), 1, 51));
 
             // then
             assertThat(joinedUsers).hasSize(50);
@@ -1,7 +1,12 @@
 package com.discphy.ad.domain.ad;
 
+import com.discphy.ad.domain.ad.condition.CountOverJoinCondition;
+import com.discphy.ad.domain.ad.condition.FirstJoinCondition;
+import com.discphy.ad.domain.ad.condition.SpecificAdIdJoinCondition;
+import com.discphy.ad.domain.ad.inventory.PessimisticLockInventory;
 import com.discphy.ad.domain.user.User;
 import com.discphy.ad.exception.CoreException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,11 +19,19 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,6 +47,18 @@ class AdServiceUnitTest {
     @Mock
     private AdJoinConditionStrategy adJoinConditionStrategy;
 
+    @Mock
+    private AdJoinInventoryStrategy adJoinInventoryStrategy;
+
+    @Mock
+    private AdSoldOutRegistry adSoldOutRegistry;
+
+    @Mock
+    private AdCatalog adCatalog;
+
+    @Mock
+    private AdLifecycleScheduler adLifecycleScheduler;
+
     @DisplayName("광고 등록 시, ")
     @Nested
     class Create {
@@ -145,6 +170,12 @@ class AdServiceUnitTest {
     @Nested
     class Join {
 
+        @BeforeEach
+        void setUp() {
+            when(adJoinInventoryStrategy.get())
+                .thenReturn(new PessimisticLockInventory(adRepository));
+        }
+
         @DisplayName("광고가 존재하지 않으면 미등록 광고 에러를 응답한다.")
         @Test
         void withNotExistAd() {
@@ -191,13 +222,17 @@ class AdServiceUnitTest {
             when(adRepository.findByIdWithLock(adId))
                 .thenReturn(Optional.of(ad));
 
-            when(adJoinConditionStrategy.isSatisfied(ad, List.of()))
+            when(adRepository.findJoinProfile(user.getId()))
+                .thenReturn(UserJoinProfile.empty());
+
+            when(adJoinConditionStrategy.isSatisfied(ad, UserJoinProfile.empty()))
                 .thenReturn(true);
 
             // when & then
             assertThatThrownBy(() -> adService.join(adId, user))
                 .isInstanceOf(CoreException.class)
                 .hasMessage("참여가 불가능합니다.");
+            verify(adSoldOutRegistry, never()).markSoldOut(adId); // 커밋되지 않은 차감 실패로는 소진을 기록하지 않음
         }
 
         @DisplayName("광고 첫 참여 조건이 있는 경우에만 참여가 가능하다.")
@@ -227,10 +262,10 @@ class AdServiceUnitTest {
             when(adRepository.findByIdWithLock(adId))
                 .thenReturn(Optional.of(ad));
 
-            when(adRepository.findJoinedHistories(user.getId()))
-                .thenReturn(List.of(history));
+            when(adRepository.findJoinProfile(user.getId()))
+                .thenReturn(UserJoinProfile.from(List.of(history)));
 
-            when(adJoinConditionStrategy.isSatisfied(ad, List.of(history)))
+            when(adJoinConditionStrategy.isSatisfied(ad, UserJoinProfile.from(List.of(history))))
                 .thenReturn(false);
 
             // when & then
@@ -271,10 +306,10 @@ class AdServiceUnitTest {
             when(adRepository.findByIdWithLock(adId))
                 .thenReturn(Optional.of(ad));
 
-            when(adRepository.findJoinedHistories(user.getId()))
-                .thenReturn(List.of(history));
+            when(adRepository.findJoinProfile(user.getId()))
+                .thenReturn(UserJoinProfile.from(List.of(history)));
 
-            when(adJoinConditionStrategy.isSatisfied(ad, List.of(history)))
+            when(adJoinConditionStrategy.isSatisfied(ad, UserJoinProfile.from(List.of(history))))
                 .thenReturn(false);
 
             // when & then
@@ -315,10 +350,10 @@ class AdServiceUnitTest {
             when(adRepository.findByIdWithLock(adId))
                 .thenReturn(Optional.of(ad));
 
-            when(adRepository.findJoinedHistories(user.getId()))
-                .thenReturn(List.of(history));
+            when(adRepository.findJoinProfile(user.getId()))
+                .thenReturn(UserJoinProfile.from(List.of(history)));
 
-            when(adJoinConditionStrategy.isSatisfied(ad, List.of(history)))
+            when(adJoinConditionStrategy.isSatisfied(ad, UserJoinProfile.from(List.of(history))))
                 .thenReturn(false);
 
             // when & then
@@ -352,7 +387,10 @@ class AdServiceUnitTest {
             when(adRepository.findByIdWithLock(adId))
                 .thenReturn(Optional.of(ad));
 
-            when(adJoinConditionStrategy.isSatisfied(ad, List.of()))
+            when(adRepository.findJoinProfile(user.getId()))
+                .thenReturn(UserJoinProfile.empty());
+
+            when(adJoinConditionStrategy.isSatisfied(ad, UserJoinProfile.empty()))
                 .thenReturn(true);
 
             // when
@@ -361,12 +399,164 @@ class AdServiceUnitTest {
             // then
             verify(adRepository).saveJoinedUser(any(AdJoinedHistory.class));
         }
+
+        @DisplayName("마지막 참여 후, 소진된 광고로 기록한다.")
+        @Test
+        void markSoldOutAfterLastJoin() {
+            // given
+            Long adId = 1L;
+            User user = User.builder()
+                .id(1L)
+                .name("사용자명")
+                .build();
+
+            Ad ad = Ad.builder()
+                .id(adId)
+                .name("광고명")
+                .rewardAmount(1_000L)
+                .joinCount(1)
+                .description("광고 설명")
+                .imageUrl("https://example.com/image.jpg")
+                .startedAt(LocalDateTime.now().minusDays(1))
+                .endedAt(LocalDateTime.now().plusDays(1))
+                .type(AdJoinConditionType.FIRST_JOIN)
+                .build();
+
+            when(adRepository.findByIdWithLock(adId))
+                .thenReturn(Optional.of(ad));
+
+            when(adRepository.findJoinProfile(user.getId()))
+                .thenReturn(UserJoinProfile.empty());
+
+            when(adJoinConditionStrategy.isSatisfied(ad, UserJoinProfile.empty()))
+                .thenReturn(true);
+
+            // when
+            adService.join(adId, user);
+
+            // then
+            verify(adSoldOutRegistry).markSoldOutAfterCommit(eq(adId), any(BooleanSupplier.class));
+        }
+
+        @DisplayName("노출 기간이 종료된 광고면 참여 불가 에러를 응답한다.")
+        @Test
+        void withEndedAd() {
+            // given
+            Long adId = 1L;
+            User user = User.builder()
+                .id(1L)
+                .name("사용자명")
+                .build();
+
+            Ad ad = Ad.builder()
+                .id(adId)
+                .name("광고명")
+                .rewardAmount(1_000L)
+                .joinCount(1)
+                .description("광고 설명")
+                .imageUrl("https://example.com/image.jpg")
+                .startedAt(LocalDateTime.now().minusDays(2))
+                .endedAt(LocalDateTime.now().minusDays(1))
+                .type(AdJoinConditionType.FIRST_JOIN)
+                .build();
+
+            when(adRepository.findByIdWithLock(adId))
+                .thenReturn(Optional.of(ad));
+
+            // when & then
+            assertThatThrownBy(() -> adService.join(adId, user))
+                .isInstanceOf(CoreException.class)
+                .hasMessage("광고 노출 기간이 종료되었습니다.");
+        }
+    }
+
+    @DisplayName("광고 일괄 참여 시, ")
+    @Nested
+    class JoinAll {
+
+        @DisplayName("참여 가능 횟수를 초과한 요청만 실패 처리한다.")
+        @Test
+        void failExceedingJoinCount() {
+            // given
+            Long adId = 1L;
+            Ad ad = Ad.builder()
+                .id(adId)
+                .name("광고명")
+                .rewardAmount(1_000L)
+                .joinCount(2)
+                .description("광고 설명")
+                .imageUrl("https://example.com/image.jpg")
+                .startedAt(LocalDateTime.now().minusDays(1))
+                .endedAt(LocalDateTime.now().plusDays(1))
+                .type(AdJoinConditionType.FIRST_JOIN)
+                .build();
+            List<User> users = List.of(
+                User.builder().id(1L).name("사용자1").build(),
+                User.builder().id(2L).name("사용자2").build(),
+                User.builder().id(3L).name("사용자3").build()
+            );
+
+            when(adRepository.findByIdWithLock(adId))
+                .thenReturn(Optional.of(ad));
+
+            when(adJoinConditionStrategy.isSatisfied(any(Ad.class), any(UserJoinProfile.class)))
+                .thenReturn(true);
+
+            // when
+            List<AdJoinResult> results = adService.joinAll(adId, users);
+
+            // then
+            assertThat(results).extracting(AdJoinResult::isSuccess)
+                .containsExactly(true, true, false);
+            assertThat(results.get(2).failure()).hasMessage("참여가 불가능합니다.");
+            assertThat(ad.getJoinCount()).isZero();
+            verify(adRepository).saveJoinedUsers(anyList());
+        }
+
+        @DisplayName("같은 배치에서 먼저 참여한 이력을 다음 요청의 참여 조건에 반영한다.")
+        @Test
+        void applyJoinedInSameBatch() {
+            // given
+            Long adId = 1L;
+            Ad ad = Ad.builder()
+                .id(adId)
+                .name("광고명")
+                .rewardAmount(1_000L)
+                .joinCount(10)
+                .description("광고 설명")
+                .imageUrl("https://example.com/image.jpg")
+                .startedAt(LocalDateTime.now().minusDays(1))
+                .endedAt(LocalDateTime.now().plusDays(1))
+                .type(AdJoinConditionType.FIRST_JOIN)
+                .build();
+            User user = User.builder().id(1L).name("사용자명").build();
+
+            when(adRepository.findByIdWithLock(adId))
+                .thenReturn(Optional.of(ad));
+
+            when(adJoinConditionStrategy.isSatisfied(any(Ad.class), any(UserJoinProfile.class)))
+                .thenAnswer(invocation -> ((UserJoinProfile) invocation.getArgument(1)).isEmpty());
+
+            // when
+            List<AdJoinResult> results = adService.joinAll(adId, List.of(user, user));
+
+            // then
+            assertThat(results).extracting(AdJoinResult::isSuccess)
+                .containsExactly(true, false);
+            assertThat(results.get(1).failure()).hasMessage("광고 참여 조건을 만족하지 않습니다.");
+        }
     }
 
     @DisplayName("광고 조회 시, ")
     @Nested
     class GetJoinable {
 
+        private final AdJoinConditionStrategy conditionStrategy = new AdJoinConditionStrategy(List.of(
+            new FirstJoinCondition(),
+            new CountOverJoinCondition(),
+            new SpecificAdIdJoinCondition()
+        ));
+
         @DisplayName("참여 가능한 광고만 조회한다.")
         @Test
         void onlyJoinable() {
@@ -423,16 +613,13 @@ class AdServiceUnitTest {
                 """)
                 .build();
 
-            when(adJoinConditionStrategy.isSatisfied(any(Ad.class), anyList()))
-                .thenReturn(false);
+            when(adCatalog.find())
+                .thenReturn(Optional.of(AdCatalogSnapshot.of(1L, now, List.of(ad1, ad2, ad3), conditionStrategy::predicateOf)));
 
-            when(adRepository.findJoinableAds(now))
-                .thenReturn(List.of(ad1, ad2, ad3));
-
-            when(adRepository.findJoinedHistories(user.getId()))
-                .thenReturn(List.of(
+            when(adRepository.findJoinProfile(user.getId()))
+                .thenReturn(UserJoinProfile.from(List.of(
                     AdJoinedHistory.create(ad1, user, now.minusDays(2))
-                ));
+                )));
 
             // when
             List<Ad> joinableAds = adService.getJoinable(user.getId(), now);
@@ -473,14 +660,11 @@ class AdServiceUnitTest {
                 null
             ));
 
-            when(adRepository.findJoinableAds(now))
-                .thenReturn(List.of(ad2, ad1));
+            when(adCatalog.find())
+                .thenReturn(Optional.of(AdCatalogSnapshot.of(1L, now, List.of(ad1, ad2), conditionStrategy::predicateOf)));
 
-            when(adRepository.findJoinedHistories(user.getId()))
-                .thenReturn(List.of());
-
-            when(adJoinConditionStrategy.isSatisfied(any(Ad.class), anyList()))
-                .thenReturn(true);
+            when(adRepository.findJoinProfile(user.getId()))
+                .thenReturn(UserJoinProfile.from(List.of()));
 
             // when
             List<Ad> joinableAds = adService.getJoinable(user.getId(), now);
@@ -490,6 +674,97 @@ class AdServiceUnitTest {
                 .extracting(Ad::getName)
                 .containsExactly("광고2", "광고1");
         }
+
+        @DisplayName("카탈로그가 준비되지 않으면 활성 광고 수와 관계없이 최대 개수를 찾을 때까지만 읽고 평가한다.")
+        @Test
+        void scanUntilLimit() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            List<Ad> ads = createActiveAds(1_000, now);
+            AtomicInteger readRows = new AtomicInteger();
+            AdJoinInventory inventory = mockInventory(ads, now, readRows);
+
+            when(adCatalog.find())
+                .thenReturn(Optional.empty());
+            when(adJoinInventoryStrategy.get())
+                .thenReturn(inventory);
+            when(adRepository.findJoinProfile(1L))
+                .thenReturn(UserJoinProfile.empty());
+            when(adJoinConditionStrategy.isSatisfied(any(Ad.class), any(UserJoinProfile.class)))
+                .thenReturn(true);
+
+            // when
+            List<Ad> joinableAds = adService.getJoinable(1L, now, 10);
+
+            // then
+            assertThat(joinableAds).hasSize(10)
+                .extracting(Ad::getId)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+            assertThat(readRows.get()).isLessThanOrEqualTo(20);
+            verify(inventory, times(1)).findJoinableAds(eq(now), any(AdJoinableCursor.class), anyInt());
+            verify(adJoinConditionStrategy, times(10)).isSatisfied(any(Ad.class), any(UserJoinProfile.class));
+        }
+
+        @DisplayName("카탈로그가 준비되지 않으면 적립 액수 순으로 이어서 읽으며 조건을 만족하는 광고를 찾는다.")
+        @Test
+        void scanNextChunks() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            List<Ad> ads = createActiveAds(1_000, now);
+            AtomicInteger readRows = new AtomicInteger();
+            AdJoinInventory inventory = mockInventory(ads, now, readRows);
+
+            when(adCatalog.find())
+                .thenReturn(Optional.empty());
+            when(adJoinInventoryStrategy.get())
+                .thenReturn(inventory);
+            when(adRepository.findJoinProfile(1L))
+                .thenReturn(UserJoinProfile.empty());
+            when(adJoinConditionStrategy.isSatisfied(any(Ad.class), any(UserJoinProfile.class)))
+                .thenAnswer(invocation -> invocation.<Ad>getArgument(0).getId() % 25 == 0);
+
+            // when
+            List<Ad> joinableAds = adService.getJoinable(1L, now, 3);
+
+            // then
+            assertThat(joinableAds)
+                .extracting(Ad::getId)
+                .containsExactly(25L, 50L, 75L);
+            assertThat(readRows.get()).isEqualTo(80);
+            verify(adJoinConditionStrategy, times(75)).isSatisfied(any(Ad.class), any(UserJoinProfile.class));
+        }
+
+        private List<Ad> createActiveAds(int count, LocalDateTime now) {
+            return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> Ad.builder()
+                    .id((long) i)
+                    .name("광고" + i)
+                    .rewardAmount((count - i + 1) * 10L)
+                    .joinCount(100)
+                    .description("광고 설명")
+                    .imageUrl("https://example.com/image.jpg")
+                    .startedAt(now.minusDays(1))
+                    .endedAt(now.plusDays(1))
+                    .type(AdJoinConditionType.FIRST_JOIN)
+                    .build())
+                .toList();
+        }
+
+        private AdJoinInventory mockInventory(List<Ad> ads, LocalDateTime now, AtomicInteger readRows) {
+            AdJoinInventory inventory = mock(AdJoinInventory.class);
+            when(inventory.findJoinableAds(eq(now), any(AdJoinableCursor.class), anyInt()))
+                .thenAnswer(invocation -> {
+                    AdJoinableCursor cursor = invocation.getArgument(1);
+                    List<Ad> chunk = ads.stream()
+                        .filter(ad -> ad.getRewardAmount() < cursor.rewardAmount()
+                            || (ad.getRewardAmount() == cursor.rewardAmount() && ad.getId() > cursor.adId()))
+                        .limit(invocation.<Integer>getArgument(2))
+                        .toList();
+                    readRows.addAndGet(chunk.size());
+                    return chunk;
+                });
+            return inventory;
+        }
     }
 
     @DisplayName("광고 이력 조회 시, ")
@@ -520,15 +795,15 @@ class AdServiceUnitTest {
             AdJoinedHistory joinedUser2 = AdJoinedHistory.create(ad, user, LocalDateTime.of(2025, 7, 26, 13, 0, 0));
 
             AdCommand.JoinedHistoriesQuery command = AdCommand.JoinedHistoriesQuery.of(userId, 1, 2);
-            when(adRepository.findJoinedHistories(command))
-                .thenReturn(List.of(joinedUser2, joinedUser1));
+            when(adRepository.findJoinedHistoryInfos(command))
+                .thenReturn(List.of(AdInfo.JoinedHistory.from(joinedUser2), AdInfo.JoinedHistory.from(joinedUser1)));
 
             // when
-            List<AdJoinedHistory> joinedUsers = adService.getJoinedHistories(command);
+            List<AdInfo.JoinedHistory> joinedUsers = adService.getJoinedHistoryInfos(command);
 
             // then
             assertThat(joinedUsers).hasSize(2)
-                .extracting(AdJoinedHistory::getJoinedAt)
+                .extracting(AdInfo.JoinedHistory::joinedAt)
                 .containsExactly(
                     LocalDateTime.of(2025, 7, 26, 13, 0, 0),
                     LocalDateTime.of(2025, 7, 26, 13, 0, 1)
@@ -555,19 +830,19 @@ class AdServiceUnitTest {
                 .name("사용자명")
                 .build();
 
-            List<AdJoinedHistory> joinedHistories = new ArrayList<>();
+            List<AdInfo.JoinedHistory> joinedHistories = new ArrayList<>();
             for (int i = 0; i < 10; i++) {
-                joinedHistories.add(AdJoinedHistory.create(ad, user, LocalDateTime.now().minusDays(i)));
+                joinedHistories.add(AdInfo.JoinedHistory.from(AdJoinedHistory.create(ad, user, LocalDateTime.now().minusDays(i))));
             }
 
-            when(adRepository.findJoinedHistories(AdCommand.JoinedHistoriesQuery.of(userId, 1, 5)))
+            when(adRepository.findJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery.of(userId, 1, 5)))
                 .thenReturn(joinedHistories.subList(0, 5));
-            when(adRepository.findJoinedHistories(AdCommand.JoinedHistoriesQuery.of(userId, 2, 5)))
+            when(adRepository.findJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery.of(userId, 2, 5)))
                 .thenReturn(joinedHistories.subList(5, 10));
 
             // when
-            List<AdJoinedHistory> joinedUsersPage1 = adService.getJoinedHistories(AdCommand.JoinedHistoriesQuery.of(userId, 1, 5));
-            List<AdJoinedHistory> joinedUsersPage2 = adService.getJoinedHistories(AdCommand.JoinedHistoriesQuery.of(userId, 2, 5));
+            List<AdInfo.JoinedHistory> joinedUsersPage1 = adService.getJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery.of(userId, 1, 5));
+            List<AdInfo.JoinedHistory> joinedUsersPage2 = adService.getJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery.of(userId, 2, 5));
 
             // then
             assertThat(joinedUsersPage1).hasSize(5);
@@ -594,16 +869,16 @@ class AdServiceUnitTest {
                 .name("사용자명")
                 .build();
 
-            List<AdJoinedHistory> joinedHistories = new ArrayList<>();
+            List<AdInfo.JoinedHistory> joinedHistories = new ArrayList<>();
             for (int i = 0; i < 50; i++) {
-                joinedHistories.add(AdJoinedHistory.create(ad, user, LocalDateTime.now().minusDays(i)));
+                joinedHistories.add(AdInfo.JoinedHistory.from(AdJoinedHistory.create(ad, user, LocalDateTime.now().minusDays(i))));
             }
 
-            when(adRepository.findJoinedHistories(AdCommand.JoinedHistoriesQuery.of(userId, 1, 51)))
+            when(adRepository.findJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery.of(userId, 1, 51)))
                 .thenReturn(joinedHistories.subList(0, 50));
 
             // when
-            List<AdJoinedHistory> joinedUsers = adService.getJoinedHistories(AdCommand.JoinedHistoriesQuery.of(userId, 1, 51));
+            List<AdInfo.JoinedHistory> joinedUsers = adService.getJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery.of(userId, 1, 51));
 
             // then
             assertThat(joinedUsers).hasSize(50);
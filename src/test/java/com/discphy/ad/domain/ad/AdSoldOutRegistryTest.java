@@ -0,0 +1,82 @@
+package com.discphy.ad.domain.ad;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdSoldOutRegistryTest {
+
+    private final AdSoldOutRegistry adSoldOutRegistry = new AdSoldOutRegistry();
+
+    @DisplayName("참여 마감 여부 확인 시, ")
+    @Nested
+    class IsClosed {
+
+        @DisplayName("기록되지 않은 광고는 마감되지 않은 것으로 본다.")
+        @Test
+        void unknownAd() {
+            // when
+            boolean closed = adSoldOutRegistry.isClosed(1L, LocalDateTime.now());
+
+            // then
+            assertThat(closed).isFalse();
+        }
+
+        @DisplayName("소진된 광고는 마감된 것으로 본다.")
+        @Test
+        void soldOutAd() {
+            // given
+            adSoldOutRegistry.markSoldOut(1L);
+
+            // when
+            boolean closed = adSoldOutRegistry.isClosed(1L, LocalDateTime.now());
+
+            // then
+            assertThat(closed).isTrue();
+        }
+
+        @DisplayName("노출 종료 시각이 지나면 마감된 것으로 본다.")
+        @Test
+        void endedAd() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            adSoldOutRegistry.watch(createAd(now.plusHours(1)));
+
+            // when & then
+            assertThat(adSoldOutRegistry.isClosed(1L, now)).isFalse();
+            assertThat(adSoldOutRegistry.isClosed(1L, now.plusHours(2))).isTrue();
+        }
+
+        @DisplayName("소진 기록은 노출 종료 시각으로 덮어쓰지 않는다.")
+        @Test
+        void soldOutNotOverwritten() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            adSoldOutRegistry.markSoldOut(1L);
+
+            // when
+            adSoldOutRegistry.watch(createAd(now.plusHours(1)));
+
+            // then
+            assertThat(adSoldOutRegistry.isClosed(1L, now)).isTrue();
+        }
+    }
+
+    private Ad createAd(LocalDateTime endedAt) {
+        return Ad.builder()
+            .id(1L)
+            .name("광고명")
+            .rewardAmount(1_000L)
+            .joinCount(10)
+            .description("광고 설명")
+            .imageUrl("https://example.com/image.jpg")
+            .startedAt(endedAt.minusDays(1))
+            .endedAt(endedAt)
+            .type(AdJoinConditionType.FIRST_JOIN)
+            .build();
+    }
+}
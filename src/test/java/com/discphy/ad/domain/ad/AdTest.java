@@ -96,6 +96,33 @@ class AdTest {
                 .hasMessage("참여 가능 회수가 유효하지 않습니다.");
         }
 
+        @DisplayName("참여 횟수 슬롯 수는 유효해야한다.")
+        @ParameterizedTest
+        @ValueSource(ints = {
+            33,
+            0
+        })
+        void inventorySlotCountShouldValid(int inventorySlotCount) {
+            // given
+            AdCommand.Create command = new AdCommand.Create(
+                "광고명",
+                1_000L,
+                10,
+                "광고 설명",
+                "https://example.com/image.jpg",
+                LocalDateTime.now(),
+                LocalDateTime.now().plusDays(1),
+                AdJoinConditionType.FIRST_JOIN,
+                null,
+                inventorySlotCount
+            );
+
+            // when & then
+            assertThatThrownBy(() -> Ad.create(command))
+                .isInstanceOf(CoreException.class)
+                .hasMessage("참여 횟수 슬롯 수가 유효하지 않습니다.");
+        }
+
         @DisplayName("노출 기간은 필수여야한다.")
         @Test
         void periodShouldRequired() {
@@ -216,6 +243,59 @@ class AdTest {
             // then
             assertThat(ad.getJoinCount()).isEqualTo(9);
         }
+
+        @DisplayName("마지막 참여 시, 광고 상태를 참여 마감으로 변경한다.")
+        @Test
+        void soldOutAtZero() {
+            // given
+            Ad ad = Ad.create(new AdCommand.Create(
+                "광고명",
+                1_000L,
+                1,
+                "광고 설명",
+                "https://example.com/image.jpg",
+                LocalDateTime.now(),
+                LocalDateTime.now().plusDays(1),
+                AdJoinConditionType.FIRST_JOIN,
+                null
+            ));
+
+            // when
+            ad.join();
+
+            // then
+            assertThat(ad.getStatus()).isEqualTo(AdStatus.SOLD_OUT);
+        }
+    }
+
+    @DisplayName("광고 상태 확인 시, ")
+    @Nested
+    class StatusAt {
+
+        @DisplayName("노출 기간에 따라 노출 예정, 노출 중, 노출 종료 상태를 반환한다.")
+        @Test
+        void byPeriod() {
+            // given
+            LocalDateTime startedAt = LocalDateTime.of(2025, 1, 1, 0, 0, 0);
+            LocalDateTime endedAt = LocalDateTime.of(2025, 1, 31, 23, 59, 59);
+            Ad ad = Ad.create(new AdCommand.Create(
+                "광고명",
+                1_000L,
+                10,
+                "광고 설명",
+                "https://example.com/image.jpg",
+                startedAt,
+                endedAt,
+                AdJoinConditionType.FIRST_JOIN,
+                null
+            ));
+
+            // when & then
+            assertThat(ad.statusAt(startedAt.minusSeconds(1))).isEqualTo(AdStatus.SCHEDULED);
+            assertThat(ad.statusAt(startedAt)).isEqualTo(AdStatus.ACTIVE);
+            assertThat(ad.statusAt(endedAt)).isEqualTo(AdStatus.ACTIVE);
+            assertThat(ad.statusAt(endedAt.plusSeconds(1))).isEqualTo(AdStatus.ENDED);
+        }
     }
 
 }
\ No newline at end of file
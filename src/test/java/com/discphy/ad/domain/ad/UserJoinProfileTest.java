@@ -0,0 +1,97 @@
+package com.discphy.ad.domain.ad;
+
+import com.discphy.ad.domain.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserJoinProfileTest {
+
+    @DisplayName("참여 이력 요약 시, ")
+    @Nested
+    class Of {
+
+        @DisplayName("광고별 요약으로 참여 횟수와 참여 광고, 최근 참여 시간을 구한다.")
+        @Test
+        void summarize() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            List<AdJoinedSummary> summaries = List.of(
+                new AdJoinedSummary(1L, 3L, 2L, now.minusDays(1)),
+                new AdJoinedSummary(1L, 1L, 1L, now)
+            );
+
+            // when
+            UserJoinProfile profile = UserJoinProfile.of(summaries);
+
+            // then
+            assertThat(profile.getJoinCount()).isEqualTo(3);
+            assertThat(profile.getLastJoinedAt()).isEqualTo(now);
+            assertThat(profile.hasJoined(1L)).isTrue();
+            assertThat(profile.hasJoined(3L)).isTrue();
+            assertThat(profile.hasJoined(2L)).isFalse();
+        }
+
+        @DisplayName("참여 이력이 없으면 빈 요약을 반환한다.")
+        @Test
+        void empty() {
+            // when
+            UserJoinProfile profile = UserJoinProfile.of(List.of());
+
+            // then
+            assertThat(profile.isEmpty()).isTrue();
+            assertThat(profile).isEqualTo(UserJoinProfile.from(List.of()));
+        }
+    }
+
+    @DisplayName("참여 반영 시, ")
+    @Nested
+    class Join {
+
+        @DisplayName("참여 횟수를 늘리고 참여 광고를 추가한다.")
+        @Test
+        void join() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            UserJoinProfile profile = UserJoinProfile.from(List.of(
+                AdJoinedHistory.create(createAd(1L), createUser(), now.minusDays(1)),
+                AdJoinedHistory.create(createAd(5L), createUser(), now.minusDays(1))
+            ));
+
+            // when
+            UserJoinProfile joined = profile.join(3L, now);
+
+            // then
+            assertThat(joined.getJoinCount()).isEqualTo(3);
+            assertThat(joined.getLastJoinedAt()).isEqualTo(now);
+            assertThat(joined.hasJoined(3L)).isTrue();
+            assertThat(profile.hasJoined(3L)).isFalse();
+        }
+    }
+
+    private Ad createAd(Long id) {
+        return Ad.builder()
+            .id(id)
+            .name("광고" + id)
+            .rewardAmount(1_000L)
+            .joinCount(10)
+            .description("광고 설명")
+            .imageUrl("https://example.com/image.jpg")
+            .startedAt(LocalDateTime.now().minusDays(1))
+            .endedAt(LocalDateTime.now().plusDays(1))
+            .type(AdJoinConditionType.FIRST_JOIN)
+            .build();
+    }
+
+    private User createUser() {
+        return User.builder()
+            .id(1L)
+            .name("사용자명")
+            .build();
+    }
+}
@@ -0,0 +1,155 @@
+package com.discphy.ad.infrastructure.ad;
+
+import com.discphy.ad.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Statement;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class AdJoinableQueryExplainTest {
+
+    private static final String JOINABLE_QUERY = """
+        SELECT * FROM ad
+        WHERE status = 'ACTIVE' AND started_at <= NOW() AND ended_at >= NOW()
+        ORDER BY reward_amount DESC, ad_id ASC
+        LIMIT 20
+        """;
+
+    // 상태 컬럼 도입 전 조회 조건
+    private static final String RANGE_QUERY = """
+        SELECT * FROM ad
+        WHERE join_count > 0 AND started_at <= NOW() AND ended_at >= NOW()
+        ORDER BY reward_amount DESC
+        LIMIT 20
+        """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("참여 가능한 광고 조회 실행 계획 확인 시, ")
+    @Nested
+    class Explain {
+
+        @DisplayName("상태와 적립 액수 인덱스로 조회하여 별도 정렬이 발생하지 않는다.")
+        @Test
+        void useStatusRewardIndex() {
+            // given
+            seedAds(5_000, 100);
+
+            // when
+            Map<String, Object> plan = explain(JOINABLE_QUERY);
+
+            // then
+            assertAll(
+                () -> assertThat(plan.get("key")).isEqualTo("idx_ad_status_reward"),
+                () -> assertThat(plan.get("type")).isEqualTo("ref"),
+                () -> assertThat((String) plan.get("Extra")).doesNotContain("filesort")
+            );
+        }
+
+        @DisplayName("노출 기간 범위 조건으로 조회하면 별도 정렬이 발생한다.")
+        @Test
+        void rangeQueryNeedsFilesort() {
+            // given
+            seedAds(5_000, 100);
+
+            // when
+            Map<String, Object> plan = explain(RANGE_QUERY);
+
+            // then
+            assertThat((String) plan.get("Extra")).contains("filesort");
+        }
+    }
+
+    @DisplayName("광고 100만 건 중 참여 가능한 광고 조회 시, ")
+    @Nested
+    class Benchmark {
+
+        @Tag("benchmark")
+        @DisplayName("기존 범위 조건 인덱스와 조회 시간을 비교한다.")
+        @Test
+        void compareWithRangeIndex() {
+            // given
+            seedAds(1_000_000, 1_000);
+            jdbcTemplate.execute("CREATE INDEX idx_ad_joinable_legacy ON ad (join_count, started_at, ended_at, reward_amount DESC)");
+
+            try {
+                // when
+                double rangeMillis = averageMillis(RANGE_QUERY, 30);
+                double statusMillis = averageMillis(JOINABLE_QUERY, 30);
+
+                // then
+                System.out.printf("광고 100만 건 참여 가능 광고 조회 평균 - 범위 조건: %.2fms (%s), 상태 조건: %.2fms (%s)%n",
+                    rangeMillis, explain(RANGE_QUERY), statusMillis, explain(JOINABLE_QUERY));
+                assertThat(explain(JOINABLE_QUERY).get("key")).isEqualTo("idx_ad_status_reward");
+                assertThat(jdbcTemplate.queryForList(JOINABLE_QUERY)).hasSize(20);
+            } finally {
+                jdbcTemplate.execute("DROP INDEX idx_ad_joinable_legacy ON ad");
+            }
+        }
+
+        private double averageMillis(String query, int repeat) {
+            jdbcTemplate.queryForList(query); // 버퍼 풀 예열
+
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < repeat; i++) {
+                jdbcTemplate.queryForList(query);
+            }
+            return (System.nanoTime() - startedAt) / 1_000_000.0 / repeat;
+        }
+    }
+
+    private Map<String, Object> explain(String query) {
+        return jdbcTemplate.queryForList("EXPLAIN " + query).getFirst();
+    }
+
+    // 대부분 종료된 광고이고 activeEvery 건마다 한 건씩 노출 중인 광고
+    private void seedAds(int count, int activeEvery) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SESSION cte_max_recursion_depth = " + count);
+                statement.execute("""
+                    INSERT INTO ad (ad_id, name, reward_amount, join_count, total_join_count, inventory_slot_count, description, image_url, started_at, ended_at, type, status)
+                    WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+                    SELECT n,
+                           CONCAT('광고', n),
+                           (n * 7919) %% 1000000 + 1,
+                           CASE WHEN n %% %d = 0 THEN 100 ELSE 0 END,
+                           100,
+                           1,
+                           '광고 설명',
+                           'https://example.com/image.jpg',
+                           NOW() - INTERVAL 30 DAY,
+                           CASE WHEN n %% %d = 0 THEN NOW() + INTERVAL 1 DAY ELSE NOW() - INTERVAL 1 DAY END,
+                           'FIRST_JOIN',
+                           CASE WHEN n %% %d = 0 THEN 'ACTIVE' ELSE 'ENDED' END
+                    FROM seq
+                    """.formatted(count, activeEvery, activeEvery, activeEvery));
+                statement.execute("ANALYZE TABLE ad");
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,141 @@
+package com.discphy.ad.infrastructure.ad;
+
+import com.discphy.ad.common.Tsid;
+import com.discphy.ad.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class AdJoinedHistoryPartitionMaintainerTest {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'uuuuMM");
+
+    @Autowired
+    private AdJoinedHistoryPartitionMaintainer adJoinedHistoryPartitionMaintainer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private final YearMonth current = YearMonth.now(ZoneOffset.UTC);
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("참여 이력 파티션 관리 시, ")
+    @Nested
+    class Maintain {
+
+        @DisplayName("기동 시 이번 달부터 미리 만들 달까지 월별 파티션을 구성한다.")
+        @Test
+        void createMonthlyPartitions() {
+            // when
+            adJoinedHistoryPartitionMaintainer.maintain(); // 여러 번 실행해도 같은 결과
+
+            // then
+            assertThat(adJoinedHistoryPartitionMaintainer.partitions())
+                .contains(nameOf(current), nameOf(current.plusMonths(3)))
+                .endsWith("pmax")
+                .doesNotHaveDuplicates();
+        }
+
+        @DisplayName("보관 기간이 지난 파티션은 통째로 삭제한다.")
+        @Test
+        void dropExpiredPartitions() {
+            // given
+            YearMonth expired = current.minusMonths(2);
+            String first = adJoinedHistoryPartitionMaintainer.partitions().getFirst();
+            jdbcTemplate.execute("""
+                ALTER TABLE ad_joined_history REORGANIZE PARTITION %s INTO (
+                    PARTITION %s VALUES LESS THAN ('%s'),
+                    PARTITION %s VALUES LESS THAN ('%s'))
+                """.formatted(first, nameOf(expired), expired.plusMonths(1).atDay(1), first, YearMonth.parse(first, PARTITION_NAME).plusMonths(1).atDay(1)));
+            insertHistory(expired.atDay(10) + " 00:00:00");
+            insertHistory(current.atDay(1) + " 00:00:00");
+
+            AdJoinedHistoryPartitionMaintainer maintainer = new AdJoinedHistoryPartitionMaintainer(jdbcTemplate, true, false, 3, 1);
+
+            // when
+            maintainer.maintain();
+
+            // then
+            assertThat(maintainer.partitions()).doesNotContain(nameOf(expired));
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ad_joined_history", Long.class)).isEqualTo(1L);
+        }
+
+        @DisplayName("다른 인스턴스가 관리 중이면 건너뛴다.")
+        @Test
+        void skipWhileLocked() {
+            // given
+            YearMonth expired = current.minusMonths(2);
+            String first = adJoinedHistoryPartitionMaintainer.partitions().getFirst();
+            jdbcTemplate.execute("ALTER TABLE ad_joined_history REORGANIZE PARTITION %s INTO (PARTITION %s VALUES LESS THAN ('%s'), PARTITION %s VALUES LESS THAN ('%s'))"
+                .formatted(first, nameOf(expired), expired.plusMonths(1).atDay(1), first, YearMonth.parse(first, PARTITION_NAME).plusMonths(1).atDay(1)));
+
+            AdJoinedHistoryPartitionMaintainer maintainer = new AdJoinedHistoryPartitionMaintainer(jdbcTemplate, true, false, 3, 1);
+
+            // when
+            List<String> partitions = jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+                connection.createStatement().execute("SELECT GET_LOCK('ad_joined_history_partition', 0)"); // 다른 인스턴스가 잡은 잠금
+                try {
+                    maintainer.maintain();
+                    return maintainer.partitions();
+                } finally {
+                    connection.createStatement().execute("SELECT RELEASE_LOCK('ad_joined_history_partition')");
+                }
+            });
+
+            // then
+            assertThat(partitions).contains(nameOf(expired));
+        }
+    }
+
+    @DisplayName("참여 시각 범위로 참여 이력 조회 시, ")
+    @Nested
+    class Pruning {
+
+        @DisplayName("범위에 해당하는 월 파티션만 읽는다.")
+        @Test
+        void readOnlyMatchedPartition() {
+            // when
+            Map<String, Object> plan = jdbcTemplate.queryForList("""
+                EXPLAIN SELECT * FROM ad_joined_history
+                WHERE user_id = 1 AND joined_at >= '%s' AND joined_at < '%s'
+                """.formatted(current.atDay(1), current.plusMonths(1).atDay(1))).getFirst();
+
+            // then
+            assertThat(plan.get("partitions")).isEqualTo(nameOf(current));
+        }
+    }
+
+    private void insertHistory(String joinedAt) {
+        jdbcTemplate.update(
+            "INSERT INTO ad_joined_history (ad_joined_history_id, user_id, ad_id, name, reward_amount, joined_at) VALUES (?, 1, 1, '광고1', 1000, ?)",
+            Tsid.next(), joinedAt
+        );
+    }
+
+    private String nameOf(YearMonth month) {
+        return month.format(PARTITION_NAME);
+    }
+}
@@ -0,0 +1,177 @@
+package com.discphy.ad.infrastructure.ad;
+
+import com.discphy.ad.domain.ad.AdCommand;
+import com.discphy.ad.domain.ad.AdInfo;
+import com.discphy.ad.domain.ad.AdJoinedHistory;
+import com.discphy.ad.domain.ad.AdJoinedHistoryCursor;
+import com.discphy.ad.domain.ad.AdRepository;
+import com.discphy.ad.infrastructure.ad.jpa.AdJoinedUserJpaRepository;
+import com.discphy.ad.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class AdJoinedHistoryProjectionTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    private AdRepository adRepository;
+
+    @Autowired
+    private AdJoinedUserJpaRepository adJoinedUserJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("참여 이력을 응답 레코드로 바로 조회 시, ")
+    @Nested
+    class Projection {
+
+        @DisplayName("엔티티를 조회해 변환한 결과와 같다.")
+        @Test
+        void sameAsEntityMapping() {
+            // given
+            seedHistories(30);
+            AdCommand.JoinedHistoriesQuery firstPage = AdCommand.JoinedHistoriesQuery.of(USER_ID, 1, 10);
+            List<AdInfo.JoinedHistory> page1 = adRepository.findJoinedHistoryInfos(firstPage);
+            AdCommand.JoinedHistoriesQuery nextPage = new AdCommand.JoinedHistoriesQuery(USER_ID, 1, 10, AdJoinedHistoryCursor.after(page1.getLast()));
+
+            // when
+            List<AdInfo.JoinedHistory> projected = adRepository.findJoinedHistoryInfos(nextPage);
+
+            // then
+            assertThat(page1).isEqualTo(byEntity(firstPage));
+            assertThat(projected).isEqualTo(byEntity(AdCommand.JoinedHistoriesQuery.of(USER_ID, 2, 10)));
+        }
+    }
+
+    @DisplayName("참여 시각 기간을 지정하여 조회 시, ")
+    @Nested
+    class Period {
+
+        @DisplayName("기간 내 이력만 참여 시간 순으로 조회한다.")
+        @Test
+        void withinPeriod() {
+            // given
+            seedHistories(30); // 1초 간격으로 두 건씩
+            List<AdInfo.JoinedHistory> all = adRepository.findJoinedHistoryInfos(AdCommand.JoinedHistoriesQuery.of(USER_ID, 1, 50));
+            LocalDateTime from = all.get(10).joinedAt();
+            LocalDateTime to = all.get(20).joinedAt();
+
+            // when
+            List<AdInfo.JoinedHistory> histories = adRepository.findJoinedHistoryInfos(
+                AdCommand.JoinedHistoriesQuery.of(USER_ID, 1, 50, null, from, to)
+            );
+
+            // then
+            assertThat(histories).hasSize(10)
+                .allSatisfy(history -> assertThat(history.joinedAt()).isBetween(from, to.minusNanos(1)));
+        }
+    }
+
+    @DisplayName("참여 이력 50건 페이지 반복 조회 시, ")
+    @Nested
+    class Benchmark {
+
+        @Tag("benchmark")
+        @DisplayName("엔티티 조회 후 변환과 레코드 직접 조회의 요청당 할당량과 지연 시간을 비교한다.")
+        @Test
+        void compareWithEntity() {
+            // given
+            seedHistories(50);
+            AdCommand.JoinedHistoriesQuery query = AdCommand.JoinedHistoriesQuery.of(USER_ID, 1, 50);
+
+            // when
+            Result entity = measure(() -> byEntity(query), 500);
+            Result projection = measure(() -> readOnly.execute(status -> adRepository.findJoinedHistoryInfos(query)), 500);
+
+            // then
+            System.out.printf("참여 이력 50건 조회 - 엔티티: %.2fms %,dB/요청, 레코드: %.2fms %,dB/요청%n",
+                entity.millis(), entity.bytes(), projection.millis(), projection.bytes());
+            assertThat(projection.bytes()).isLessThan(entity.bytes());
+        }
+
+        private Result measure(Supplier<List<AdInfo.JoinedHistory>> request, int repeat) {
+            for (int i = 0; i < 50; i++) {
+                request.get(); // 예열
+            }
+
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long threadId = Thread.currentThread().threadId();
+            long allocatedAt = threads.getThreadAllocatedBytes(threadId);
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < repeat; i++) {
+                request.get();
+            }
+
+            return new Result(
+                (System.nanoTime() - startedAt) / 1_000_000.0 / repeat,
+                (threads.getThreadAllocatedBytes(threadId) - allocatedAt) / repeat
+            );
+        }
+    }
+
+    private List<AdInfo.JoinedHistory> byEntity(AdCommand.JoinedHistoriesQuery query) {
+        return readOnly.execute(status -> adJoinedUserJpaRepository.findAll().stream()
+            .filter(history -> history.getUserId().equals(query.userId()))
+            .sorted(Comparator.comparing(AdJoinedHistory::getJoinedAt).thenComparing(AdJoinedHistory::getId))
+            .skip((long) query.page() * query.size())
+            .limit(query.size())
+            .map(AdInfo.JoinedHistory::from)
+            .toList());
+    }
+
+    private void seedHistories(int count) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update(
+                "INSERT INTO ad_joined_history (ad_joined_history_id, user_id, ad_id, name, reward_amount, joined_at) VALUES (?, ?, ?, ?, ?, TIMESTAMP('2025-01-01') + INTERVAL ? SECOND)",
+                i + 1L, USER_ID, i % 5 + 1, "광고" + (i % 5 + 1), 1_000L, i / 2 // 두 건씩 같은 참여 시간
+            );
+        }
+    }
+
+    private record Result(
+        double millis,
+        long bytes
+    ) {
+    }
+}
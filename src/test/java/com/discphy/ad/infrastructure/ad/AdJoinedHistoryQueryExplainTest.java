@@ -0,0 +1,145 @@
+package com.discphy.ad.infrastructure.ad;
+
+import com.discphy.ad.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class AdJoinedHistoryQueryExplainTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final String OFFSET_QUERY = """
+        SELECT * FROM ad_joined_history
+        WHERE user_id = 1
+        ORDER BY joined_at ASC, ad_joined_history_id ASC
+        LIMIT %d OFFSET %d
+        """;
+
+    private static final String CURSOR_QUERY = """
+        SELECT * FROM ad_joined_history
+        WHERE user_id = 1 AND joined_at >= '%s'
+          AND (joined_at > '%s' OR ad_joined_history_id > %d)
+        ORDER BY joined_at ASC, ad_joined_history_id ASC
+        LIMIT %d
+        """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("커서 이후의 참여 이력 조회 실행 계획 확인 시, ")
+    @Nested
+    class Explain {
+
+        @DisplayName("사용자별 참여 시간 인덱스를 범위 조회하여 별도 정렬이 발생하지 않는다.")
+        @Test
+        void rangeScanOnIndex() {
+            // given
+            seedHistories(5_000);
+            Map<String, Object> last = lastOfPage(100);
+
+            // when
+            Map<String, Object> plan = explain(cursorQuery(last));
+
+            // then
+            assertAll(
+                () -> assertThat(plan.get("key")).isEqualTo("idx_ad_joined_history"),
+                () -> assertThat(plan.get("type")).isEqualTo("range"),
+                () -> assertThat((String) plan.get("Extra")).doesNotContain("filesort")
+            );
+        }
+    }
+
+    @DisplayName("참여 이력 10만 건 중 깊은 페이지 조회 시, ")
+    @Nested
+    class Benchmark {
+
+        @Tag("benchmark")
+        @DisplayName("OFFSET 방식과 커서 방식의 1페이지, 1000페이지 조회 시간을 비교한다.")
+        @Test
+        void compareDeepPage() {
+            // given
+            seedHistories(100_000);
+            Map<String, Object> beforePage1000 = lastOfPage(999);
+
+            // when
+            double offsetPage1 = averageMillis(OFFSET_QUERY.formatted(PAGE_SIZE, 0), 30);
+            double offsetPage1000 = averageMillis(OFFSET_QUERY.formatted(PAGE_SIZE, 999 * PAGE_SIZE), 30);
+            double cursorPage1000 = averageMillis(cursorQuery(beforePage1000), 30);
+
+            // then
+            System.out.printf("참여 이력 조회 평균 - OFFSET 1페이지: %.2fms, OFFSET 1000페이지: %.2fms, 커서 1000페이지: %.2fms%n",
+                offsetPage1, offsetPage1000, cursorPage1000);
+            assertThat(jdbcTemplate.queryForList(cursorQuery(beforePage1000)))
+                .extracting(row -> row.get("ad_joined_history_id"))
+                .isEqualTo(jdbcTemplate.queryForList(OFFSET_QUERY.formatted(PAGE_SIZE, 999 * PAGE_SIZE)).stream()
+                    .map(row -> row.get("ad_joined_history_id"))
+                    .toList());
+        }
+
+        private double averageMillis(String query, int repeat) {
+            jdbcTemplate.queryForList(query); // 버퍼 풀 예열
+
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < repeat; i++) {
+                jdbcTemplate.queryForList(query);
+            }
+            return (System.nanoTime() - startedAt) / 1_000_000.0 / repeat;
+        }
+    }
+
+    private Map<String, Object> lastOfPage(int page) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(OFFSET_QUERY.formatted(PAGE_SIZE, (page - 1) * PAGE_SIZE));
+        return rows.getLast();
+    }
+
+    private String cursorQuery(Map<String, Object> last) {
+        Object joinedAt = last.get("joined_at");
+        return CURSOR_QUERY.formatted(joinedAt, joinedAt, ((Number) last.get("ad_joined_history_id")).longValue(), PAGE_SIZE);
+    }
+
+    private Map<String, Object> explain(String query) {
+        return jdbcTemplate.queryForList("EXPLAIN " + query).getFirst();
+    }
+
+    // 사용자 1의 참여 이력, 10건마다 같은 참여 시간
+    private void seedHistories(int count) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SESSION cte_max_recursion_depth = " + count);
+                statement.execute("""
+                    INSERT INTO ad_joined_history (ad_joined_history_id, user_id, ad_id, name, reward_amount, joined_at)
+                    WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d)
+                    SELECT n, 1, n %% 100 + 1, CONCAT('광고', n %% 100 + 1), 1000, TIMESTAMP('2025-01-01') + INTERVAL (n DIV 10) SECOND
+                    FROM seq
+                    """.formatted(count));
+                statement.execute("ANALYZE TABLE ad_joined_history");
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,149 @@
+package com.discphy.ad.infrastructure.datasource;
+
+import com.discphy.ad.application.ad.AdReadYourWrites;
+import com.discphy.ad.domain.ad.AdEvent;
+import com.discphy.ad.utils.DatabaseCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class RoutingDataSourceTest {
+
+    private static final String PRIMARY_DATABASE = "kakaopay";
+    private static final String REPLICA_DATABASE = "kakaopay_replica";
+
+    // 복제 대신 별도 DB 이름으로 어느 쪽에서 읽었는지 구분
+    private static final MySQLContainer<?> REPLICA_CONTAINER = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+        .withDatabaseName(REPLICA_DATABASE)
+        .withUsername("test")
+        .withPassword("test");
+
+    static {
+        REPLICA_CONTAINER.start();
+    }
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("ad.datasource.replica.enabled", () -> "true");
+        registry.add("ad.datasource.replica.url", () -> REPLICA_CONTAINER.getJdbcUrl() + "?characterEncoding=UTF-8&serverTimezone=UTC");
+        registry.add("ad.datasource.replica.username", REPLICA_CONTAINER::getUsername);
+        registry.add("ad.datasource.replica.password", REPLICA_CONTAINER::getPassword);
+        registry.add("ad.datasource.replica.heartbeat-interval", () -> "3600000"); // 테스트에서 직접 측정
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private AdReadYourWrites adReadYourWrites;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        givenReplicaLag(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("커넥션 선택 시, ")
+    @Nested
+    class Route {
+
+        @DisplayName("읽기 전용 트랜잭션은 복제본에서, 나머지는 주 DB 에서 읽는다.")
+        @Test
+        void routeByReadOnly() {
+            // when
+            String readOnly = currentDatabase(true);
+            String readWrite = currentDatabase(false);
+
+            // then
+            assertThat(readOnly).isEqualTo(REPLICA_DATABASE);
+            assertThat(readWrite).isEqualTo(PRIMARY_DATABASE);
+        }
+
+        @DisplayName("복제 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 주 DB 에서 읽는다.")
+        @Test
+        void fallbackOnLag() {
+            // given
+            givenReplicaLag(60);
+
+            // when
+            String readOnly = currentDatabase(true);
+
+            // then
+            assertThat(readOnly).isEqualTo(PRIMARY_DATABASE);
+            assertThat(replicaLagMonitor.isAvailable()).isFalse();
+            assertThat(meterRegistry.get("ad.datasource.replica.lag").gauge().value()).isGreaterThanOrEqualTo(60);
+            assertThat(meterRegistry.get("ad.datasource.replica.available").gauge().value()).isZero();
+        }
+
+        @DisplayName("방금 참여한 사용자의 조회는 주 DB 에서 읽는다.")
+        @Test
+        void readYourWrites() {
+            // given
+            adReadYourWrites.record(new AdEvent.Joined(1L, 1L, 1_000L, LocalDateTime.now()));
+
+            // when
+            String joinedUser = adReadYourWrites.read(1L, () -> currentDatabase(true));
+            String otherUser = adReadYourWrites.read(2L, () -> currentDatabase(true));
+
+            // then
+            assertThat(joinedUser).isEqualTo(PRIMARY_DATABASE);
+            assertThat(otherUser).isEqualTo(REPLICA_DATABASE);
+        }
+    }
+
+    private String currentDatabase(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    // 복제본 풀은 읽기 전용이므로 별도 커넥션으로 하트비트를 직접 기록하여 지연을 흉내냄
+    private void givenReplicaLag(int seconds) {
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(
+            REPLICA_CONTAINER.getJdbcUrl(), REPLICA_CONTAINER.getUsername(), REPLICA_CONTAINER.getPassword()
+        ));
+        replica.execute("CREATE TABLE IF NOT EXISTS replication_heartbeat (id TINYINT PRIMARY KEY, beat_at DATETIME(6) NOT NULL)");
+        replica.update("""
+            INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, UTC_TIMESTAMP(6) - INTERVAL ? SECOND)
+            ON DUPLICATE KEY UPDATE beat_at = VALUES(beat_at)
+            """, seconds);
+        replicaLagMonitor.check();
+    }
+}
@@ -0,0 +1,201 @@
+package com.discphy.ad.interfaces.api.ad;
+
+import com.discphy.ad.domain.ad.Ad;
+import com.discphy.ad.domain.ad.AdCommand;
+import com.discphy.ad.domain.ad.AdEventOutbox;
+import com.discphy.ad.domain.ad.AdEventOutboxStatus;
+import com.discphy.ad.domain.ad.AdJoinConditionType;
+import com.discphy.ad.domain.ad.AdJoinedHistory;
+import com.discphy.ad.domain.user.User;
+import com.discphy.ad.interfaces.api.ApiResponse;
+import com.discphy.ad.infrastructure.ad.jpa.AdEventOutboxJpaRepository;
+import com.discphy.ad.infrastructure.ad.jpa.AdJoinedUserJpaRepository;
+import com.discphy.ad.infrastructure.ad.jpa.AdJpaRepository;
+import com.discphy.ad.infrastructure.user.jpa.UserJpaRepository;
+import com.discphy.ad.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "ad.admin.token=" + AdAdminV1ControllerE2ETest.ADMIN_TOKEN)
+class AdAdminV1ControllerE2ETest {
+
+    public static final String ADMIN_TOKEN = "test-admin-token";
+    public static final String EXPORT_URL = "/api/v1/ads/histories/export";
+    public static final String REPLAY_URL = "/api/v1/ads/outbox/replay";
+
+    @Autowired
+    private AdJpaRepository adJpaRepository;
+
+    @Autowired
+    private AdJoinedUserJpaRepository adJoinedUserJpaRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private AdEventOutboxJpaRepository adEventOutboxJpaRepository;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private final LocalDateTime base = LocalDateTime.of(2025, 3, 1, 0, 0);
+    private final List<AdJoinedHistory> histories = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = User.create("테스트 사용자");
+        userJpaRepository.save(user);
+
+        Ad ad = Ad.create(new AdCommand.Create(
+            "광고명",
+            1_000L,
+            100,
+            "광고 설명",
+            "https://example.com/image.jpg",
+            base.minusDays(1),
+            base.plusDays(30),
+            AdJoinConditionType.FIRST_JOIN,
+            null
+        ));
+        adJpaRepository.save(ad);
+
+        for (int i = 0; i < 10; i++) {
+            histories.add(adJoinedUserJpaRepository.save(AdJoinedHistory.create(ad, user, base.plusDays(i))));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("GET /api/v1/ads/histories/export")
+    @Nested
+    class Export {
+
+        @DisplayName("관리자 토큰이 다르면 403 Forbidden 에러가 발생한다.")
+        @Test
+        void forbidden() {
+            // when
+            ResponseEntity<String> response = restTemplate.exchange(
+                EXPORT_URL + "?from=" + base + "&to=" + base.plusDays(10),
+                HttpMethod.GET, new HttpEntity<>(null, createHeaders("invalid-token")), String.class);
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        }
+
+        @DisplayName("조회 기간이 없으면 400 Bad Request 에러가 발생한다.")
+        @Test
+        void withoutPeriod() {
+            // when
+            ResponseEntity<String> response = restTemplate.exchange(
+                EXPORT_URL, HttpMethod.GET, new HttpEntity<>(null, createHeaders(ADMIN_TOKEN)), String.class);
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        @DisplayName("조회 기간의 참여 이력을 한 줄에 하나씩 NDJSON 으로 내보낸다.")
+        @Test
+        void ndjson() {
+            // when
+            ResponseEntity<String> response = restTemplate.exchange(
+                EXPORT_URL + "?from=" + base.plusDays(2) + "&to=" + base.plusDays(5),
+                HttpMethod.GET, new HttpEntity<>(null, createHeaders(ADMIN_TOKEN)), String.class);
+
+            // then
+            List<String> lines = response.getBody().lines().toList();
+            assertAll(
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(response.getHeaders().getContentType().toString()).startsWith("application/x-ndjson"),
+                () -> assertThat(lines).hasSize(3),
+                () -> assertThat(lines).allMatch(line -> line.startsWith("{") && line.contains("\"rewardAmount\":1000"))
+            );
+        }
+
+        @DisplayName("CSV 형식을 지정하면 헤더와 함께 CSV 로 내보낸다.")
+        @Test
+        void csv() {
+            // when
+            ResponseEntity<String> response = restTemplate.exchange(
+                EXPORT_URL + "?from=" + base + "&to=" + base.plusDays(10) + "&format=csv",
+                HttpMethod.GET, new HttpEntity<>(null, createHeaders(ADMIN_TOKEN)), String.class);
+
+            // then
+            List<String> lines = response.getBody().lines().toList();
+            assertAll(
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(response.getHeaders().getContentType().toString()).startsWith("text/csv"),
+                () -> assertThat(lines.getFirst()).isEqualTo("id,adId,userId,name,joinedAt,rewardAmount"),
+                () -> assertThat(lines).hasSize(11)
+            );
+        }
+    }
+
+    @DisplayName("POST /api/v1/ads/outbox/replay")
+    @Nested
+    class ReplayDeadOutboxes {
+
+        @DisplayName("관리자 토큰이 다르면 403 Forbidden 에러가 발생한다.")
+        @Test
+        void forbidden() {
+            // when
+            ResponseEntity<String> response = restTemplate.exchange(
+                REPLAY_URL, HttpMethod.POST, new HttpEntity<>(null, createHeaders("invalid-token")), String.class);
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        }
+
+        @DisplayName("발송 포기한 이벤트를 발송 대기로 되돌리고 건수를 반환한다.")
+        @Test
+        void replay() {
+            // given
+            List<Long> ids = adEventOutboxJpaRepository.saveAll(histories.subList(0, 2).stream().map(AdEventOutbox::joined).toList())
+                .stream()
+                .map(AdEventOutbox::getId)
+                .toList();
+            adEventOutboxJpaRepository.updateDead(ids);
+
+            // when
+            ResponseEntity<ApiResponse<AdV1Dto.ReplayDeadOutboxesResponse>> response = restTemplate.exchange(
+                REPLAY_URL, HttpMethod.POST, new HttpEntity<>(null, createHeaders(ADMIN_TOKEN)), new ParameterizedTypeReference<>() {});
+
+            // then
+            assertAll(
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(response.getBody().getData().count()).isEqualTo(2),
+                () -> assertThat(adEventOutboxJpaRepository.findAll())
+                    .extracting(AdEventOutbox::getStatus)
+                    .doesNotContain(AdEventOutboxStatus.DEAD)
+            );
+        }
+    }
+
+    private MultiValueMap<String, String> createHeaders(String token) {
+        MultiValueMap<String, String> headers = new LinkedMultiValueMap<>();
+        headers.add("X-ADMIN-TOKEN", token);
+
+        return headers;
+    }
+}
@@ -1,6 +1,7 @@
 package com.discphy.ad.interfaces.api.ad;
 
 import com.discphy.ad.domain.ad.Ad;
+import com.discphy.ad.domain.ad.AdCatalog;
 import com.discphy.ad.domain.ad.AdCommand;
 import com.discphy.ad.domain.ad.AdJoinConditionType;
 import com.discphy.ad.domain.ad.AdJoinedHistory;
@@ -36,6 +37,9 @@ class AdV1ControllerE2ETest {
     @Autowired
     private AdJpaRepository adJpaRepository;
 
+    @Autowired
+    private AdCatalog adCatalog;
+
     @Autowired
     private AdJoinedUserJpaRepository adJoinedUserJpaRepository;
 
@@ -181,6 +185,29 @@ class AdV1ControllerE2ETest {
                 () -> assertThat(response.getBody().getData().id()).isNotNull()
             );
         }
+
+        @DisplayName("광고 ID 는 JavaScript 숫자 정밀도를 넘으므로 문자열로 응답한다.")
+        @Test
+        void idAsString() {
+            // given
+            AdV1Dto.CreateRequest request = new AdV1Dto.CreateRequest(
+                "새로운 광고",
+                2000L,
+                5,
+                "새로운 광고 설명",
+                "https://example.com/new-image.jpg",
+                "2023-01-01",
+                "2023-12-31",
+                AdJoinConditionType.FIRST_JOIN,
+                null
+            );
+
+            // when
+            ResponseEntity<String> response = restTemplate.exchange(BASE_URL, HttpMethod.POST, new HttpEntity<>(request), String.class);
+
+            // then
+            assertThat(response.getBody()).containsPattern("\"id\":\"\\d+\"");
+        }
     }
 
     @DisplayName("POST /api/v1/ads/{adId}/join")
@@ -432,6 +459,7 @@ class AdV1ControllerE2ETest {
                 list.add(ad);
             }
             adJpaRepository.saveAll(list);
+            adCatalog.refresh();
 
             // when
             ParameterizedTypeReference<ApiResponse<AdV1Dto.GetJoinAbleResponse>> responseType = new ParameterizedTypeReference<>() {};
@@ -525,6 +553,8 @@ class AdV1ControllerE2ETest {
                 joinableAd, countOverConditionAd, specificAdIdConditionAd, notDisplayedAd, notExistJoinCountAd
             ));
 
+            adCatalog.refresh();
+
             // when
             ParameterizedTypeReference<ApiResponse<AdV1Dto.GetJoinAbleResponse>> responseType = new ParameterizedTypeReference<>() {};
             ResponseEntity<ApiResponse<AdV1Dto.GetJoinAbleResponse>> response =
@@ -570,6 +600,7 @@ class AdV1ControllerE2ETest {
                 null
             ));
             adJpaRepository.saveAll(List.of(ad1, ad2));
+            adCatalog.refresh();
 
             // when
             ParameterizedTypeReference<ApiResponse<AdV1Dto.GetJoinAbleResponse>> responseType = new ParameterizedTypeReference<>() {};
@@ -15,12 +15,15 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.function.Function;
 
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -383,5 +386,31 @@ class AdV1ControllerUnitTest {
                 .andExpect(jsonPath("$.code").value(400))
                 .andExpect(jsonPath("$.message").value("X-USER-ID 헤더가 누락되었습니다."));
         }
+
+        @DisplayName("같은 목록을 공유하는 사용자에게 같은 응답을 반환한다.")
+        @Test
+        void sharedResponse() throws Exception {
+            // given
+            AdInfo.GetJoinAble info = AdInfo.GetJoinAble.from(List.of(
+                new AdInfo.GetJoinAbleItem(1L, "광고명", "광고 설명", "https://example.com/image.jpg", 1_000L)
+            ));
+
+            when(adFacade.getJoinable(anyLong()))
+                .thenReturn(info);
+
+            // when & then
+            for (long userId = 1; userId <= 2; userId++) {
+                mockMvc.perform(
+                        get(BASE_URL)
+                            .header("X-USER-ID", userId)
+                    )
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                    .andExpect(jsonPath("$.code").value(200))
+                    .andExpect(jsonPath("$.data.items[0].adId").value(1))
+                    .andExpect(jsonPath("$.data.items[0].rewardAmount").value(1_000));
+            }
+        }
     }
-}
\ No newline at end of file
+}
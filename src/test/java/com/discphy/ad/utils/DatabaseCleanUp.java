@@ -1,10 +1,17 @@
 package com.discphy.ad.utils;
 
+import com.discphy.ad.application.ad.AdJoinableCache;
+import com.discphy.ad.application.ad.AdReadYourWrites;
+import com.discphy.ad.application.point.ResilientPointClient;
+import com.discphy.ad.domain.ad.AdCatalog;
+import com.discphy.ad.domain.ad.AdLifecycleScheduler;
+import com.discphy.ad.domain.ad.AdSoldOutRegistry;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Table;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +24,24 @@ public class DatabaseCleanUp implements InitializingBean {
     @PersistenceContext
     private EntityManager entityManager;
 
+    @Autowired
+    private AdSoldOutRegistry adSoldOutRegistry;
+
+    @Autowired
+    private AdCatalog adCatalog;
+
+    @Autowired
+    private AdLifecycleScheduler adLifecycleScheduler;
+
+    @Autowired
+    private AdJoinableCache adJoinableCache;
+
+    @Autowired
+    private AdReadYourWrites adReadYourWrites;
+
+    @Autowired
+    private ResilientPointClient resilientPointClient;
+
     private final List<String> tableNames = new ArrayList<>();
 
     @Override
@@ -37,5 +62,11 @@ public class DatabaseCleanUp implements InitializingBean {
         }
 
         entityManager.createNativeQuery("SET FOREIGN_KEY_CHECKS = 1").executeUpdate();
+        adSoldOutRegistry.clear(); // 초기화된 광고 ID가 재사용되므로 함께 비움
+        adCatalog.clear();
+        adLifecycleScheduler.clear();
+        adJoinableCache.clear();
+        adReadYourWrites.clear();
+        resilientPointClient.reset();
     }
 }